@@ -6,7 +6,6 @@ import com.alibaba.sdk.android.oss.ClientConfiguration;
 import com.alibaba.sdk.android.oss.OSS;
 import com.alibaba.sdk.android.oss.OSSClient;
 import com.alibaba.sdk.android.oss.common.OSSLog;
-import com.alibaba.sdk.android.oss.common.utils.HttpdnsMini;
 import com.alibaba.sdk.android.oss.model.CreateBucketRequest;
 
 import static com.alibaba.sdk.android.oss.model.CannedAccessControlList.PublicReadWrite;
@@ -23,7 +22,6 @@ public abstract class BaseTestCase extends AndroidTestCase {
     abstract void initTestData() throws Exception;
 
     protected void initOSSClient() {
-        HttpdnsMini.getInstance().isHttp2Test = false;
         ClientConfiguration conf = new ClientConfiguration();
         //ClientConfiguration 链接和socket 已经改为60s了
 //        conf.setConnectionTimeout(60 * 1000); // 连接超时，默认15秒
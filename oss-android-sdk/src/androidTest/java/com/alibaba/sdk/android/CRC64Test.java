@@ -1,6 +1,7 @@
 package com.alibaba.sdk.android;
 
 import com.alibaba.sdk.android.oss.ClientException;
+import com.alibaba.sdk.android.oss.OSSAppendOutputStream;
 import com.alibaba.sdk.android.oss.callback.OSSProgressCallback;
 import com.alibaba.sdk.android.oss.common.OSSLog;
 import com.alibaba.sdk.android.oss.common.utils.IOUtils;
@@ -12,6 +13,8 @@ import com.alibaba.sdk.android.oss.model.CompleteMultipartUploadResult;
 import com.alibaba.sdk.android.oss.model.DeleteObjectRequest;
 import com.alibaba.sdk.android.oss.model.GetObjectRequest;
 import com.alibaba.sdk.android.oss.model.GetObjectResult;
+import com.alibaba.sdk.android.oss.model.HeadObjectRequest;
+import com.alibaba.sdk.android.oss.model.HeadObjectResult;
 import com.alibaba.sdk.android.oss.model.InitiateMultipartUploadRequest;
 import com.alibaba.sdk.android.oss.model.InitiateMultipartUploadResult;
 import com.alibaba.sdk.android.oss.model.MultipartUploadRequest;
@@ -121,6 +124,26 @@ public class CRC64Test extends BaseTestCase {
 
     }
 
+    public void testCRC64AppendOutputStream() throws Exception {
+        DeleteObjectRequest delete = new DeleteObjectRequest(mBucketName, "append_stream");
+        oss.deleteObject(delete);
+
+        OSSAppendOutputStream output = new OSSAppendOutputStream(oss, mBucketName, "append_stream", 0,
+                0L, null, 100 * 1024, 200);
+        byte[] line = new byte[1000];
+        for (int i = 0; i < 300; i++) {
+            output.write(line);
+        }
+        output.close();
+
+        assertEquals(300 * 1000, output.getNextPosition());
+        assertNotNull(output.getCRC64());
+
+        HeadObjectResult head = oss.headObject(new HeadObjectRequest(mBucketName, "append_stream"));
+        assertEquals(300 * 1000, head.getMetadata().getContentLength());
+        assertEquals(output.getCRC64(), head.getServerCRC());
+    }
+
     public void testUploadPartAndCompleteCRC64() throws Exception {
         String objectKey = "multipart";
         List<PartETag> partETagList = new ArrayList<PartETag>();
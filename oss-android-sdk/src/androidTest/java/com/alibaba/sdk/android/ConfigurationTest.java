@@ -3,6 +3,7 @@ package com.alibaba.sdk.android;
 import com.alibaba.sdk.android.oss.ClientConfiguration;
 import com.alibaba.sdk.android.oss.OSSClient;
 import com.alibaba.sdk.android.oss.common.OSSLog;
+import com.alibaba.sdk.android.oss.common.utils.HttpdnsMini;
 import com.alibaba.sdk.android.oss.model.GetObjectRequest;
 import com.alibaba.sdk.android.oss.model.GetObjectResult;
 import com.alibaba.sdk.android.oss.model.HeadObjectRequest;
@@ -48,6 +49,43 @@ public class ConfigurationTest extends BaseTestCase {
         oss.updateCredentialProvider(OSSTestConfig.credentialProvider);
     }
 
+    public void testShareConnectionPool() throws Exception {
+        ClientConfiguration conf = new ClientConfiguration();
+        conf.setShareConnectionPool(true);
+        conf.setMaxIdleConnections(2);
+        conf.setKeepAliveDuration(60 * 1000);
+        OSSClient first = new OSSClient(getContext(), OSSTestConfig.ENDPOINT, OSSTestConfig.credentialProvider, conf);
+        OSSClient second = new OSSClient(getContext(), OSSTestConfig.ENDPOINT, OSSTestConfig.credentialProvider, conf);
+        assertSame(first.getConnectionMetrics(), second.getConnectionMetrics());
+
+        // the shared transport may have served other clients of this configuration before
+        long acquired = first.getConnectionMetrics().getAcquiredConnections();
+        long opened = first.getConnectionMetrics().getOpenedConnections();
+        first.headObject(new HeadObjectRequest(mBucketName, "file1m"));
+        second.headObject(new HeadObjectRequest(mBucketName, "file1m"));
+
+        assertEquals(acquired + 2, second.getConnectionMetrics().getAcquiredConnections());
+        assertTrue(second.getConnectionMetrics().getOpenedConnections() <= opened + 1);
+        assertTrue(second.getConnectionMetrics().getReuseRatio() > 0);
+
+        // a client which does not opt in has its own pool
+        OSSClient own = new OSSClient(getContext(), OSSTestConfig.ENDPOINT, OSSTestConfig.credentialProvider);
+        assertNotSame(first.getConnectionMetrics(), own.getConnectionMetrics());
+    }
+
+    public void testWarmUpConnections() throws Exception {
+        OSSClient client = new OSSClient(getContext(), OSSTestConfig.ENDPOINT, OSSTestConfig.credentialProvider);
+        List<String> buckets = new ArrayList<String>();
+        buckets.add(mBucketName);
+        client.warmUpConnections(buckets, false);
+        Thread.sleep(5 * 1000);
+        assertEquals(1, client.getConnectionMetrics().getOpenedConnections());
+
+        client.headObject(new HeadObjectRequest(mBucketName, "file1m"));
+        assertEquals(1, client.getConnectionMetrics().getOpenedConnections());
+        assertEquals(2, client.getConnectionMetrics().getAcquiredConnections());
+    }
+
     public void testCnameSetting() throws Exception {
 
         OSSClient oss = new OSSClient(getContext(), OSSTestConfig.ANDROID_TEST_CNAME, OSSTestConfig.credentialProvider);
@@ -57,6 +95,20 @@ public class ConfigurationTest extends BaseTestCase {
         assertEquals(true, url.startsWith(OSSTestConfig.ANDROID_TEST_CNAME));
     }
 
+    public void testPresignedURLCache() throws Exception {
+        ClientConfiguration conf = new ClientConfiguration();
+        conf.setPresignedURLCacheSize(10);
+        OSSClient oss = new OSSClient(getContext(), OSSTestConfig.ENDPOINT, OSSTestConfig.credentialProvider, conf);
+
+        String url = oss.presignConstrainedObjectURL(mBucketName, "file1m", 30 * 60);
+        Thread.sleep(1000);
+        assertEquals(url, oss.presignConstrainedObjectURL(mBucketName, "file1m", 30 * 60));
+        assertFalse(url.equals(oss.presignConstrainedObjectURL(mBucketName, "file1m", 60 * 60)));
+
+        oss.updateCredentialProvider(OSSTestConfig.credentialProvider);
+        assertFalse(url.equals(oss.presignConstrainedObjectURL(mBucketName, "file1m", 30 * 60)));
+    }
+
     public void testCustomExcludeCname() throws Exception {
 
         List cnameExcludeList = new ArrayList();
@@ -139,6 +191,32 @@ public class ConfigurationTest extends BaseTestCase {
         assertEquals(200, getResult.getStatusCode());
     }
 
+    public void testHttpDnsEnableWithHttps() throws Exception {
+        ClientConfiguration conf = new ClientConfiguration();
+        conf.setHttpDnsEnable(true);
+        String endpoint = OSSTestConfig.ENDPOINT.replace("http://", "https://");
+        OSSClient oss = new OSSClient(getContext(), endpoint, OSSTestConfig.credentialProvider, conf);
+        for (int i = 0; i < 2; i++) {
+            GetObjectResult getResult = oss.getObject(new GetObjectRequest(mBucketName, "file1m"));
+            assertEquals(200, getResult.getStatusCode());
+            getResult.getObjectContent().close();
+        }
+    }
+
+    public void testHttpDnsQueriesOncePerHost() throws Exception {
+        String host = mBucketName + ".oss-cn-shanghai.aliyuncs.com";
+        HttpdnsMini.Metrics metrics = HttpdnsMini.getInstance().getMetrics();
+        long queries = metrics.getQueries();
+        for (int i = 0; i < 20; i++) {
+            HttpdnsMini.getInstance().getIpByHostAsync(host);
+        }
+        assertEquals(queries + 1, metrics.getQueries());
+
+        assertNotNull(HttpdnsMini.getInstance().getIpByHost(host));
+        assertNotNull(HttpdnsMini.getInstance().getIpByHostAsync(host));
+        assertEquals(queries + 1, metrics.getQueries());
+    }
+
     public void testHttpDnsEnableFalse() throws Exception {
         ClientConfiguration conf = new ClientConfiguration();
         conf.setHttpDnsEnable(false);
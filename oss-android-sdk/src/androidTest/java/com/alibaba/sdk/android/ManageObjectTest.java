@@ -2,7 +2,10 @@ package com.alibaba.sdk.android;
 
 import com.alibaba.sdk.android.oss.ClientException;
 import com.alibaba.sdk.android.oss.ServiceException;
+import com.alibaba.sdk.android.oss.callback.OSSShardProgressCallback;
+import com.alibaba.sdk.android.oss.common.OSSHeaders;
 import com.alibaba.sdk.android.oss.common.OSSLog;
+import com.alibaba.sdk.android.oss.internal.ListObjectsIterator;
 import com.alibaba.sdk.android.oss.internal.OSSAsyncTask;
 import com.alibaba.sdk.android.oss.model.CopyObjectRequest;
 import com.alibaba.sdk.android.oss.model.CopyObjectResult;
@@ -14,13 +17,20 @@ import com.alibaba.sdk.android.oss.model.HeadObjectResult;
 import com.alibaba.sdk.android.oss.model.ListObjectsRequest;
 import com.alibaba.sdk.android.oss.model.ListObjectsResult;
 import com.alibaba.sdk.android.oss.model.ObjectMetadata;
+import com.alibaba.sdk.android.oss.model.OSSObjectSummary;
 import com.alibaba.sdk.android.oss.model.Owner;
+import com.alibaba.sdk.android.oss.model.ParallelListObjectsRequest;
+import com.alibaba.sdk.android.oss.model.ParallelListObjectsResult;
 import com.alibaba.sdk.android.oss.model.PutObjectRequest;
 
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Created by zhouzhuo on 11/25/15.
@@ -276,6 +286,20 @@ public class ManageObjectTest extends BaseTestCase {
         assertEquals(1024 * 1000, headResult.getMetadata().getContentLength());
     }
 
+    public void testHeadObjectResponseHeader() throws Exception {
+        HeadObjectResult headResult = oss.headObject(new HeadObjectRequest(mBucketName, "file1m"));
+
+        Map<String, String> headers = headResult.getResponseHeader();
+        assertEquals(headResult.getRequestId(), headers.get(OSSHeaders.OSS_HEADER_REQUEST_ID));
+        assertEquals(headResult.getRequestId(), headers.get("X-Oss-Request-Id"));
+        assertEquals(headResult.getMetadata().getETag(), headers.get(OSSHeaders.ETAG).replace("\"", ""));
+        assertTrue(headers.size() > 0);
+
+        headers.put("x-test-header", "value");
+        assertEquals("value", headers.get("x-test-header"));
+        assertEquals(headResult.getRequestId(), headers.get(OSSHeaders.OSS_HEADER_REQUEST_ID));
+    }
+
     public void testDoesObjectExist() throws Exception {
 
         assertTrue(oss.doesObjectExist(mBucketName, "file1m"));
@@ -300,6 +324,80 @@ public class ManageObjectTest extends BaseTestCase {
         }
     }
 
+    public void testListObjectsIterator() throws Exception {
+        ListObjectsRequest listObjects = new ListObjectsRequest(mListBucket);
+        listObjects.setMaxKeys(2);
+        ListObjectsIterator iterator = oss.listObjectsIterator(listObjects, 2);
+
+        List<String> keys = new ArrayList<String>();
+        while (iterator.hasNext()) {
+            keys.add(iterator.next().getKey());
+        }
+        assertEquals(6, keys.size());
+        for (int i = 1; i < keys.size(); i++) {
+            assertTrue(keys.get(i - 1).compareTo(keys.get(i)) < 0);
+        }
+
+        // stops early
+        iterator = oss.listObjectsIterator(listObjects, 1);
+        assertEquals(keys.get(0), iterator.next().getKey());
+        iterator.cancel();
+        assertFalse(iterator.hasNext());
+    }
+
+    public void testParallelListObjects() throws Exception {
+        List<String> keys = new ArrayList<String>();
+        for (OSSObjectSummary summary : oss.listObjects(new ListObjectsRequest(mListBucket)).getObjectSummaries()) {
+            keys.add(summary.getKey());
+        }
+
+        final AtomicInteger finishedShards = new AtomicInteger();
+        ParallelListObjectsRequest request = new ParallelListObjectsRequest(mListBucket);
+        request.setMaxKeys(1);
+        request.setShardProgressCallback(new OSSShardProgressCallback() {
+            @Override
+            public void onShardProgress(ParallelListObjectsRequest.Shard shard, long listedObjects, boolean finished) {
+                if (finished) {
+                    finishedShards.incrementAndGet();
+                }
+            }
+        });
+        ParallelListObjectsResult result = oss.parallelListObjects(request);
+        assertEquals(2, result.getShards().size());
+        assertEquals(2, finishedShards.get());
+        assertEquals(keys, keysOf(result.getObjectSummaries()));
+
+        request = new ParallelListObjectsRequest(mListBucket);
+        request.setSplitKeys(Arrays.asList("file2"));
+        request.setOrdered(false);
+        result = oss.parallelListObjects(request);
+        assertEquals(2, result.getShards().size());
+        List<String> unordered = keysOf(result.getObjectSummaries());
+        Collections.sort(unordered);
+        assertEquals(keys, unordered);
+    }
+
+    private static List<String> keysOf(List<OSSObjectSummary> summaries) {
+        List<String> keys = new ArrayList<String>();
+        for (OSSObjectSummary summary : summaries) {
+            keys.add(summary.getKey());
+        }
+        return keys;
+    }
+
+    public void testListObjectsCompactSummaries() throws Exception {
+        ListObjectsResult result = oss.listObjects(new ListObjectsRequest(mListBucket));
+        List<OSSObjectSummary> summaries = result.getObjectSummaries();
+        assertEquals(6, summaries.size());
+        for (OSSObjectSummary summary : summaries) {
+            assertTrue(summary.getLastModifiedMillis() > 0);
+            assertEquals(summary.getLastModifiedMillis(), summary.getLastModified().getTime());
+            // the same owner and storage class are shared within the page
+            assertSame(summaries.get(0).getOwner(), summary.getOwner());
+            assertSame(summaries.get(0).getStorageClass(), summary.getStorageClass());
+        }
+    }
+
     public void testSyncListObjects() throws Exception {
         ListObjectsRequest listObjects = new ListObjectsRequest(mListBucket);
         listObjects.setEncodingType("url");
@@ -1,6 +1,7 @@
 package com.alibaba.sdk.android;
 
 
+import com.alibaba.sdk.android.oss.ClientConfiguration;
 import com.alibaba.sdk.android.oss.ClientException;
 import com.alibaba.sdk.android.oss.OSSClient;
 import com.alibaba.sdk.android.oss.ServiceException;
@@ -22,13 +23,22 @@ import com.alibaba.sdk.android.oss.model.MultipartUploadRequest;
 import com.alibaba.sdk.android.oss.model.ObjectMetadata;
 import com.alibaba.sdk.android.oss.model.PartETag;
 import com.alibaba.sdk.android.oss.model.PartSummary;
+import com.alibaba.sdk.android.oss.model.StreamUploadRequest;
+import com.alibaba.sdk.android.oss.model.StreamUploadResult;
 import com.alibaba.sdk.android.oss.model.UploadPartRequest;
 import com.alibaba.sdk.android.oss.model.UploadPartResult;
 
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Created by zhouzhuo on 12/3/15.
@@ -396,6 +406,38 @@ public class MultipartUploadTest extends BaseTestCase {
         OSSTestUtils.checkFileMd5(oss, mBucketName, MULTIPART_OBJECTKEY_1M, OSSTestConfig.FILE_DIR + "file1m");
     }
 
+    public void testStreamUpload() throws Exception {
+        InputStream input = new FileInputStream(OSSTestConfig.FILE_DIR + "file10m");
+        StreamUploadRequest rq = new StreamUploadRequest(mBucketName, "streamUpload10m", input);
+        rq.setPartSize(1024 * 1024);
+        rq.setProgressCallback(new OSSProgressCallback<StreamUploadRequest>() {
+            @Override
+            public void onProgress(StreamUploadRequest request, long currentSize, long totalSize) {
+                OSSLog.logDebug("[testStreamUpload] - " + currentSize + " " + totalSize, false);
+            }
+        });
+
+        StreamUploadResult result = oss.streamUpload(rq);
+        input.close();
+        assertNotNull(result);
+        assertEquals(200, result.getStatusCode());
+        assertEquals(10240000, result.getTotalSize());
+
+        OSSTestUtils.checkFileMd5(oss, mBucketName, "streamUpload10m", OSSTestConfig.FILE_DIR + "file10m");
+    }
+
+    public void testStreamUploadSmallerThanPartSize() throws Exception {
+        InputStream input = new FileInputStream(OSSTestConfig.FILE_DIR + "file100k");
+        StreamUploadRequest rq = new StreamUploadRequest(mBucketName, "streamUpload100k", input);
+
+        StreamUploadResult result = oss.streamUpload(rq);
+        input.close();
+        assertEquals(200, result.getStatusCode());
+        assertEquals(102400, result.getTotalSize());
+
+        OSSTestUtils.checkFileMd5(oss, mBucketName, "streamUpload100k", OSSTestConfig.FILE_DIR + "file100k");
+    }
+
     private void multipartUpload1mToFile(final String fileName) throws Exception {
         MultipartUploadRequest request = new MultipartUploadRequest(mBucketName, fileName,
                 OSSTestConfig.FILE_DIR + UPLOAD_FILE1M);
@@ -441,6 +483,44 @@ public class MultipartUploadTest extends BaseTestCase {
         latch.await();
     }
 
+    public void testMultipartUploadProgressOnExecutor() throws Exception {
+        ClientConfiguration conf = new ClientConfiguration();
+        conf.setProgressInterval(100);
+        final ExecutorService callbackExecutor = Executors.newSingleThreadExecutor();
+        conf.setProgressCallbackExecutor(callbackExecutor);
+        OSSClient oss = new OSSClient(getContext(), OSSTestConfig.ENDPOINT, OSSTestConfig.credentialProvider, conf);
+
+        MultipartUploadRequest rq = new MultipartUploadRequest(mBucketName, MULTIPART_OBJECTKEY_1M,
+                OSSTestConfig.FILE_DIR + "file10m");
+        rq.setPartSize(1024 * 1024);
+        final List<Long> progress = Collections.synchronizedList(new ArrayList<Long>());
+        final CountDownLatch finished = new CountDownLatch(1);
+        rq.setProgressCallback(new OSSProgressCallback<MultipartUploadRequest>() {
+            @Override
+            public void onProgress(MultipartUploadRequest request, long currentSize, long totalSize) {
+                progress.add(currentSize);
+                if (currentSize == totalSize) {
+                    finished.countDown();
+                }
+            }
+        });
+
+        oss.multipartUpload(rq);
+        assertTrue(finished.await(10, TimeUnit.SECONDS));
+        long fileLength = new File(OSSTestConfig.FILE_DIR + "file10m").length();
+        assertEquals(fileLength, (long) progress.get(progress.size() - 1));
+        // byte level progress reports within the 1MB parts
+        boolean withinPart = false;
+        for (int i = 0; i < progress.size(); i++) {
+            if (i > 0) {
+                assertTrue(progress.get(i) > progress.get(i - 1));
+            }
+            withinPart |= progress.get(i) % (1024 * 1024) != 0;
+        }
+        assertTrue(withinPart);
+        callbackExecutor.shutdown();
+    }
+
     public void testMultipartUploadWithServerError() throws Exception {
         MultipartUploadRequest rq = new MultipartUploadRequest(mBucketName, MULTIPART_OBJECTKEY_1M,
                 OSSTestConfig.FILE_DIR + "/" + UPLOAD_FILE1M);
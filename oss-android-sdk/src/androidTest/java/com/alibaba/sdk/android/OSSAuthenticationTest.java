@@ -26,7 +26,10 @@ import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
@@ -144,6 +147,25 @@ public class OSSAuthenticationTest extends BaseTestCase {
         assertEquals(1024 * 1000, resp.body().contentLength());
     }
 
+    public void testPresignObjectURLs() throws Exception {
+        List<String> keys = new ArrayList<String>();
+        List<String> processes = new ArrayList<String>();
+        for (int i = 0; i < 500; i++) {
+            keys.add(i % 2 == 0 ? "file1m" : "shilan.jpg");
+            processes.add(i % 2 == 0 ? null : "image/resize,m_lfit,w_100,h_100");
+        }
+        long start = System.currentTimeMillis();
+        List<String> urls = oss.presignConstrainedObjectURLs(mBucketName, keys, processes, 15 * 60);
+        OSSLog.logDebug("[testPresignObjectURLs] - 500 urls in " + (System.currentTimeMillis() - start) + "ms");
+        assertEquals(keys.size(), urls.size());
+
+        for (int i = 0; i < 2; i++) {
+            Response resp = new OkHttpClient().newCall(new Request.Builder().url(urls.get(i)).build()).execute();
+            assertEquals(200, resp.code());
+            resp.close();
+        }
+    }
+
     public void testPresignObjectURLWithProcess() throws Exception {
         GeneratePresignedUrlRequest signrequest = new GeneratePresignedUrlRequest(mBucketName, "shilan.jpg", 15 * 60);
         signrequest.setExpiration(15 * 60);
@@ -315,6 +337,35 @@ public class OSSAuthenticationTest extends BaseTestCase {
         assertEquals(true, firstTime < federationCredentialProvider.getCachedToken().getExpiration());
     }
 
+    public void testFederationTokenRefreshAhead() throws Exception {
+        final AtomicInteger fetches = new AtomicInteger();
+        OSSFederationCredentialProvider provider = new OSSFederationCredentialProvider() {
+            @Override
+            public OSSFederationToken getFederationToken() {
+                fetches.incrementAndGet();
+                try {
+                    Thread.sleep(500);
+                } catch (InterruptedException e) {
+                }
+                // expires within the refresh ahead time but not within a minute
+                long expiration = DateUtil.getFixedSkewedTimeMillis() / 1000 + 3 * 60;
+                return new OSSFederationToken("ak", "sk", "token" + fetches.get(), expiration);
+            }
+        };
+        OSSFederationToken first = provider.getValidFederationToken();
+        assertEquals(1, fetches.get());
+
+        // the cached token is served at once while one refresh runs in the background
+        long start = System.currentTimeMillis();
+        for (int i = 0; i < 10; i++) {
+            assertSame(first, provider.getValidFederationToken());
+        }
+        assertTrue(System.currentTimeMillis() - start < 500);
+        Thread.sleep(1500);
+        assertEquals(2, fetches.get());
+        assertNotSame(first, provider.getCachedToken());
+    }
+
     public void testStsCredentialsProvider() throws Exception {
         GetObjectRequest get = new GetObjectRequest(mBucketName, "file1m");
         OSSClient oss = new OSSClient(getContext(), OSSTestConfig.ENDPOINT, OSSTestConfig.stsCredentialProvider);
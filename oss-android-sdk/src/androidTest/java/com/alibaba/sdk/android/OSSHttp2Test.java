@@ -6,18 +6,23 @@ import com.alibaba.sdk.android.oss.ClientConfiguration;
 import com.alibaba.sdk.android.oss.OSS;
 import com.alibaba.sdk.android.oss.OSSClient;
 import com.alibaba.sdk.android.oss.common.OSSLog;
-import com.alibaba.sdk.android.oss.common.utils.HttpdnsMini;
 import com.alibaba.sdk.android.oss.internal.OSSAsyncTask;
 import com.alibaba.sdk.android.oss.model.GetObjectRequest;
+import com.alibaba.sdk.android.oss.model.GetObjectResult;
 import com.alibaba.sdk.android.oss.model.HeadObjectRequest;
 import com.alibaba.sdk.android.oss.model.HeadObjectResult;
 import com.alibaba.sdk.android.oss.model.PutObjectRequest;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Created by wangzheng on 2018/8/2.
  */
 
 public class OSSHttp2Test extends AndroidTestCase {
+    private static final String HTTPS_ENDPOINT = OSSTestConfig.ENDPOINT.replace("http://", "https://");
+
     protected String mBucketName;
     protected OSS oss;
 
@@ -29,13 +34,13 @@ public class OSSHttp2Test extends AndroidTestCase {
     }
 
     protected void initOSSClient() {
-        HttpdnsMini.getInstance().isHttp2Test = true;
         ClientConfiguration conf = new ClientConfiguration();
+        conf.setHttp2Enabled(true);
         conf.setConnectionTimeout(60 * 1000); // 连接超时，默认60秒
         conf.setSocketTimeout(60 * 1000); // socket超时，默认60秒
         conf.setMaxConcurrentRequest(5); // 最大并发请求书，默认5个
         conf.setMaxErrorRetry(2); // 失败后最大重试次数，默认2次
-        oss = new OSSClient(getContext(), OSSTestConfig.ENDPOINT, OSSTestConfig.credentialProvider,conf);
+        oss = new OSSClient(getContext(), HTTPS_ENDPOINT, OSSTestConfig.credentialProvider,conf);
         OSSLog.enableLog();
     }
 
@@ -87,4 +92,32 @@ public class OSSHttp2Test extends AndroidTestCase {
         }
     }
 
+    public void testManySmallObjectsGet() throws Exception {
+        String fileName = "small-object";
+        oss.putObject(new PutObjectRequest(mBucketName, fileName, new byte[1024]));
+
+        // https negotiates HTTP/2 by default, plain http stays on HTTP/1.1
+        ClientConfiguration http1Conf = new ClientConfiguration();
+        OSS http1 = new OSSClient(getContext(), OSSTestConfig.ENDPOINT, OSSTestConfig.credentialProvider, http1Conf);
+        long http1Time = getConcurrently(http1, fileName, 100);
+        long http2Time = getConcurrently(oss, fileName, 100);
+        OSSLog.logDebug("[testManySmallObjectsGet] - http/1.1: " + http1Time + "ms, http/2: " + http2Time + "ms");
+
+        assertEquals(0, http1.getConnectionMetrics().getHttp2Connections());
+        assertTrue(oss.getConnectionMetrics().getHttp2Connections() > 0);
+    }
+
+    private long getConcurrently(OSS client, String fileName, int count) throws Exception {
+        long start = System.currentTimeMillis();
+        List<OSSAsyncTask> tasks = new ArrayList<OSSAsyncTask>();
+        for (int i = 0; i < count; i++) {
+            tasks.add(client.asyncGetObject(new GetObjectRequest(mBucketName, fileName), null));
+        }
+        for (OSSAsyncTask task : tasks) {
+            GetObjectResult result = (GetObjectResult) task.getResult();
+            result.getObjectContent().close();
+        }
+        return System.currentTimeMillis() - start;
+    }
+
 }
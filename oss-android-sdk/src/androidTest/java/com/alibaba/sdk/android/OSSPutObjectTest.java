@@ -7,6 +7,8 @@ import com.alibaba.sdk.android.oss.common.utils.BinaryUtil;
 import com.alibaba.sdk.android.oss.internal.OSSAsyncTask;
 import com.alibaba.sdk.android.oss.model.AppendObjectRequest;
 import com.alibaba.sdk.android.oss.model.AppendObjectResult;
+import com.alibaba.sdk.android.oss.model.BatchPutObjectRequest;
+import com.alibaba.sdk.android.oss.model.BatchPutObjectResult;
 import com.alibaba.sdk.android.oss.model.DeleteMultipleObjectRequest;
 import com.alibaba.sdk.android.oss.model.DeleteMultipleObjectResult;
 import com.alibaba.sdk.android.oss.model.DeleteObjectRequest;
@@ -73,6 +75,36 @@ public class OSSPutObjectTest extends BaseTestCase {
         assertEquals("image/jpeg", headResult.getMetadata().getContentType());
     }
 
+    public void testBatchPutObject() throws Exception {
+        BatchPutObjectRequest batch = new BatchPutObjectRequest(mBucketName);
+        String[] fileNames = {"file1k", "file10k", "file100k", "file1m"};
+        for (String fileName : fileNames) {
+            batch.addFile("batch/" + fileName, OSSTestConfig.FILE_DIR + fileName);
+        }
+        batch.addRequest(new PutObjectRequest(mBucketName, "batch/not-exist",
+                OSSTestConfig.FILE_DIR + "not-exist-file"), 10);
+        batch.setConcurrency(2);
+        final long[] lastProgress = new long[2];
+        batch.setProgressCallback(new OSSProgressCallback<BatchPutObjectRequest>() {
+            @Override
+            public void onProgress(BatchPutObjectRequest request, long currentSize, long totalSize) {
+                lastProgress[0] = currentSize;
+                lastProgress[1] = totalSize;
+            }
+        });
+
+        BatchPutObjectResult result = oss.batchPutObject(batch);
+        assertEquals(4, result.getSucceeded().size());
+        assertEquals(1, result.getFailed().size());
+        assertFalse(result.isAllSucceeded());
+        assertEquals(1024 + 10240 + 102400 + 1024000, lastProgress[0]);
+        assertEquals(lastProgress[1], lastProgress[0]);
+
+        for (String fileName : fileNames) {
+            OSSTestUtils.checkFileMd5(oss, mBucketName, "batch/" + fileName, OSSTestConfig.FILE_DIR + fileName);
+        }
+    }
+
     public void testPutObjectFromEmptyFile() throws Exception {
         PutObjectRequest putORequest = new PutObjectRequest(mBucketName,"empty-file",OSSTestConfig.FILE_DIR + "empty-file");
         OSSTestConfig.TestPutCallback putCallback = new OSSTestConfig.TestPutCallback();
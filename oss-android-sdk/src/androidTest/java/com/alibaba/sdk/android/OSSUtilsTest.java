@@ -4,21 +4,31 @@ import android.os.Environment;
 import android.test.AndroidTestCase;
 import android.text.TextUtils;
 
+import com.alibaba.sdk.android.oss.common.HttpMethod;
 import com.alibaba.sdk.android.oss.common.LogThreadPoolManager;
 import com.alibaba.sdk.android.oss.common.OSSLog;
+import com.alibaba.sdk.android.oss.common.auth.HmacSHA1Signature;
 import com.alibaba.sdk.android.oss.common.utils.BinaryUtil;
 import com.alibaba.sdk.android.oss.common.utils.DateUtil;
+import com.alibaba.sdk.android.oss.common.utils.HeaderMap;
 import com.alibaba.sdk.android.oss.common.utils.HttpUtil;
 import com.alibaba.sdk.android.oss.common.utils.IOUtils;
 import com.alibaba.sdk.android.oss.common.utils.OSSUtils;
 import com.alibaba.sdk.android.oss.common.utils.VersionInfoUtils;
+import com.alibaba.sdk.android.oss.internal.RequestMessage;
 
 import org.apache.commons.codec.binary.Base64;
 
 
 import java.io.File;
 import java.text.ParseException;
+import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.SimpleTimeZone;
 import java.util.concurrent.CountDownLatch;
 
 /**
@@ -126,6 +136,50 @@ public class OSSUtilsTest extends AndroidTestCase {
         }
     }
 
+    public void testDateUtilMatchesSimpleDateFormat() throws Exception {
+        SimpleDateFormat rfc822 = new SimpleDateFormat("EEE, dd MMM yyyy HH:mm:ss 'GMT'", Locale.US);
+        rfc822.setTimeZone(new SimpleTimeZone(0, "GMT"));
+        SimpleDateFormat iso8601 = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'", Locale.US);
+        iso8601.setTimeZone(new SimpleTimeZone(0, "GMT"));
+
+        Random random = new Random(0);
+        for (int i = 0; i < 1000; i++) {
+            Date date = new Date((long) (random.nextDouble() * 4000000000000L));
+            assertEquals(rfc822.format(date), DateUtil.formatRfc822Date(date));
+            assertEquals(iso8601.format(date), DateUtil.formatIso8601Date(date));
+            assertEquals(date.getTime() / 1000 * 1000, DateUtil.parseRfc822Date(rfc822.format(date)).getTime());
+            assertEquals(date.getTime(), DateUtil.parseIso8601Date(iso8601.format(date)).getTime());
+        }
+        assertEquals(1446640496000L, DateUtil.parseIso8601Date("2015-11-04T12:34:56Z").getTime());
+        // not a valid date, parsed leniently as before
+        assertEquals(iso8601.parse("2015-02-30T00:00:00.000Z"), DateUtil.parseIso8601Date("2015-02-30T00:00:00.000Z"));
+
+        String now = DateUtil.currentFixedSkewedTimeInRFC822Format();
+        long skewed = DateUtil.getFixedSkewedTimeMillis();
+        assertTrue(Math.abs(DateUtil.parseRfc822Date(now).getTime() - skewed) < 2000);
+    }
+
+    public void testHeaderMap() {
+        HeaderMap<String> headers = new HeaderMap<String>();
+        headers.put("Content-Type", "text/plain");
+        headers.put("x-oss-meta-Name", "a");
+        headers.put("CONTENT-TYPE", "image/png");
+
+        assertEquals(2, headers.size());
+        assertEquals("image/png", headers.get("content-type"));
+        assertEquals("a", headers.get("X-OSS-META-NAME"));
+        assertTrue(headers.containsKey("Content-type"));
+        assertNull(headers.get("Content-Length"));
+
+        Iterator<Map.Entry<String, String>> iterator = headers.entrySet().iterator();
+        assertEquals("Content-Type", iterator.next().getKey());
+        assertEquals("x-oss-meta-Name", iterator.next().getKey());
+        assertFalse(iterator.hasNext());
+
+        assertEquals("a", headers.remove("X-Oss-Meta-Name"));
+        assertEquals(1, headers.size());
+    }
+
     public void testIOUtils() throws Exception {
         new IOUtils();
         byte[] bytes = IOUtils.readStreamAsBytesArray(null);
@@ -277,6 +331,33 @@ public class OSSUtilsTest extends AndroidTestCase {
         }
     }
 
+    public void testBuildCanonicalString() {
+        RequestMessage message = new RequestMessage();
+        message.setMethod(HttpMethod.PUT);
+        message.setBucketName("bucket");
+        message.setObjectKey("object");
+        message.addHeader("Date", "Wed, 01 Jan 2020 00:00:00 GMT");
+        message.addHeader("Content-Type", " text/plain ");
+        message.addHeader("X-OSS-Meta-a1", "1");
+        message.addHeader("x-oss-meta-a", "2");
+        message.addHeader("x-oss-meta-a-b", "3");
+        message.addHeader("Host", "bucket.oss-cn-hangzhou.aliyuncs.com");
+        message.getParameters().put("acl", "");
+
+        assertEquals("PUT\n\ntext/plain\nWed, 01 Jan 2020 00:00:00 GMT\n"
+                + "x-oss-meta-a:2\nx-oss-meta-a-b:3\nx-oss-meta-a1:1\n/bucket/object?acl",
+                OSSUtils.buildCanonicalString(message));
+    }
+
+    public void testHmacSHA1SignatureWithKeyChange() {
+        HmacSHA1Signature signature = new HmacSHA1Signature();
+        String data = "The quick brown fox jumps over the lazy dog";
+        assertEquals("3nybhbi3iqa8ino29wqQcBydtNk=", signature.computeSignature("key", data));
+        assertEquals("3nybhbi3iqa8ino29wqQcBydtNk=", signature.computeSignature("key", data));
+        assertFalse("3nybhbi3iqa8ino29wqQcBydtNk=".equals(signature.computeSignature("other", data)));
+        assertEquals("3nybhbi3iqa8ino29wqQcBydtNk=", signature.computeSignature("key", data));
+    }
+
     public void testBase64() throws Exception{
         String srcFileBase64Md5 = BinaryUtil.toBase64String(BinaryUtil.calculateMd5(OSSTestConfig.FILE_DIR + "guihua.zip"));
         byte[] data = BinaryUtil.fromBase64String(srcFileBase64Md5);
@@ -0,0 +1,60 @@
+package com.alibaba.sdk.android;
+
+import com.alibaba.sdk.android.oss.TransferManager;
+import com.alibaba.sdk.android.oss.common.OSSLog;
+import com.alibaba.sdk.android.oss.model.GetObjectRequest;
+import com.alibaba.sdk.android.oss.model.PutObjectRequest;
+import com.alibaba.sdk.android.oss.model.ResumableUploadRequest;
+
+import java.io.File;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class TransferManagerTest extends BaseTestCase {
+
+    private final static String UPLOAD_FILE1M = "file1m";
+    private final static String UPLOAD_FILE10M = "file10m";
+
+    @Override
+    void initTestData() throws Exception {
+        OSSTestConfig.initLocalFile();
+    }
+
+    public void testUploadAndDownloadWithPriority() throws Exception {
+        final CountDownLatch finished = new CountDownLatch(2);
+        TransferManager manager = new TransferManager(oss, 1);
+        manager.setBandwidthLimit(2 * 1024 * 1024);
+        manager.setListener(new TransferManager.TransferListener() {
+            @Override
+            public void onStateChanged(TransferManager.Transfer transfer) {
+                OSSLog.logDebug("[testTransferManager] - " + transfer + " " + transfer.getState(), false);
+                TransferManager.State state = transfer.getState();
+                if (state == TransferManager.State.COMPLETED || state == TransferManager.State.FAILED) {
+                    finished.countDown();
+                }
+            }
+
+            @Override
+            public void onProgress(long transferredBytes, long totalBytes, long bytesPerSecond) {
+                OSSLog.logDebug("[testTransferManager] - " + transferredBytes + " " + totalBytes
+                        + " " + bytesPerSecond, false);
+            }
+        });
+
+        ResumableUploadRequest upload = new ResumableUploadRequest(mBucketName, UPLOAD_FILE10M,
+                OSSTestConfig.FILE_DIR + UPLOAD_FILE10M, getContext().getFilesDir().getAbsolutePath());
+        TransferManager.Transfer background = manager.resumableUpload(upload, TransferManager.PRIORITY_BACKGROUND);
+
+        oss.putObject(new PutObjectRequest(mBucketName, UPLOAD_FILE1M,
+                OSSTestConfig.FILE_DIR + UPLOAD_FILE1M));
+        String downloadPath = getContext().getFilesDir().getAbsolutePath() + File.separator + "transfer_download";
+        TransferManager.Transfer user = manager.download(new GetObjectRequest(mBucketName, UPLOAD_FILE1M),
+                downloadPath, TransferManager.PRIORITY_USER);
+
+        assertTrue(finished.await(120, TimeUnit.SECONDS));
+        assertEquals(TransferManager.State.COMPLETED, user.getState());
+        assertEquals(TransferManager.State.COMPLETED, background.getState());
+        assertEquals(new File(OSSTestConfig.FILE_DIR + UPLOAD_FILE1M).length(), new File(downloadPath).length());
+        OSSTestUtils.checkFileMd5(oss, mBucketName, UPLOAD_FILE10M, OSSTestConfig.FILE_DIR + UPLOAD_FILE10M);
+    }
+}
@@ -10,6 +10,7 @@ package com.alibaba.sdk.android.oss;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 /**
  * Client configuration for access to Ali cloud services
@@ -28,6 +29,16 @@ public class ClientConfiguration {
     private String mUserAgentMark;
     private boolean httpDnsEnable = true;
     private boolean checkCRC64 = false;//crc64 default false
+    private long progressInterval = 0;
+    private long progressByteStep = 0;
+    private Executor progressCallbackExecutor;
+    private int maxIdleConnections = 5;
+    private long keepAliveDuration = 5 * 60 * 1000;
+    private boolean shareConnectionPool = false;
+    private boolean http2Enabled = false;
+    private int http2MaxConcurrentStreams = 16;
+    private int presignedURLCacheSize = 0;
+    private float presignedURLReuseRatio = 0.5f;
 
     /**
      * Constructor
@@ -202,4 +213,150 @@ public class ClientConfiguration {
     public void setCheckCRC64(boolean checkCRC64) {
         this.checkCRC64 = checkCRC64;
     }
+
+    public long getProgressInterval() {
+        return progressInterval;
+    }
+
+    /**
+     * Sets the minimal interval in milliseconds between two progress events of a request, 0 by default.
+     * The last progress event is always delivered.
+     *
+     * @param progressInterval the interval in milliseconds, 0 to report every chunk
+     */
+    public void setProgressInterval(long progressInterval) {
+        this.progressInterval = progressInterval;
+    }
+
+    public long getProgressByteStep() {
+        return progressByteStep;
+    }
+
+    /**
+     * Sets the minimal count of bytes transferred between two progress events of a request, 0 by default.
+     * With an interval as well an event waits for both. The last progress event is always delivered.
+     *
+     * @param progressByteStep the count of bytes, 0 to report every chunk
+     */
+    public void setProgressByteStep(long progressByteStep) {
+        this.progressByteStep = progressByteStep;
+    }
+
+    public Executor getProgressCallbackExecutor() {
+        return progressCallbackExecutor;
+    }
+
+    /**
+     * Sets the executor the progress callbacks run on, e.g. one posting to the main thread.
+     * While an event waits in the executor no other one of the same task is queued, so a slow callback
+     * skips events instead of slowing down the transfer. By default the callbacks run in the network threads.
+     *
+     * @param progressCallbackExecutor the executor, null to run the callbacks in the network threads
+     */
+    public void setProgressCallbackExecutor(Executor progressCallbackExecutor) {
+        this.progressCallbackExecutor = progressCallbackExecutor;
+    }
+
+    public int getMaxIdleConnections() {
+        return maxIdleConnections;
+    }
+
+    /**
+     * Sets the max count of idle connections kept in the connection pool, 5 by default
+     *
+     * @param maxIdleConnections the max idle connection count
+     */
+    public void setMaxIdleConnections(int maxIdleConnections) {
+        this.maxIdleConnections = maxIdleConnections;
+    }
+
+    public long getKeepAliveDuration() {
+        return keepAliveDuration;
+    }
+
+    /**
+     * Sets how long an idle connection is kept in the pool in milliseconds, 5 minutes by default
+     *
+     * @param keepAliveDuration the keep alive duration in milliseconds
+     */
+    public void setKeepAliveDuration(long keepAliveDuration) {
+        this.keepAliveDuration = keepAliveDuration;
+    }
+
+    public boolean isShareConnectionPool() {
+        return shareConnectionPool;
+    }
+
+    /**
+     * Sets whether the clients with the same endpoint host and network configuration share one http client,
+     * i.e. its connection pool, TLS sessions and concurrent request limit. It's false by default.
+     *
+     * @param shareConnectionPool true to share
+     */
+    public void setShareConnectionPool(boolean shareConnectionPool) {
+        this.shareConnectionPool = shareConnectionPool;
+    }
+
+    public boolean isHttp2Enabled() {
+        return http2Enabled;
+    }
+
+    /**
+     * Sets whether the HTTP/2 requests to a host are limited to {@link #getHttp2MaxConcurrentStreams()},
+     * false by default. HTTP/2 is offered to https endpoints either way and negotiated during the TLS
+     * handshake, endpoints without HTTP/2 support and http endpoints use HTTP/1.1. With HTTP/2 the
+     * concurrent requests to a host share one connection.
+     *
+     * @param http2Enabled true to limit the concurrent HTTP/2 streams per host
+     */
+    public void setHttp2Enabled(boolean http2Enabled) {
+        this.http2Enabled = http2Enabled;
+    }
+
+    public int getHttp2MaxConcurrentStreams() {
+        return http2MaxConcurrentStreams;
+    }
+
+    /**
+     * Sets the max count of requests in flight per host when HTTP/2 is enabled, 16 by default. A
+     * request is in flight until its response body is read or closed, the further ones wait.
+     *
+     * @param http2MaxConcurrentStreams the max concurrent stream count per host
+     */
+    public void setHttp2MaxConcurrentStreams(int http2MaxConcurrentStreams) {
+        this.http2MaxConcurrentStreams = http2MaxConcurrentStreams;
+    }
+
+    public int getPresignedURLCacheSize() {
+        return presignedURLCacheSize;
+    }
+
+    /**
+     * Sets the max count of presigned urls which are cached and reused, 0 by default which signs
+     * every url again. Reusing the url of an object keeps the http and image caches keyed by the
+     * url hitting.
+     *
+     * @param presignedURLCacheSize the max count of cached urls
+     */
+    public void setPresignedURLCacheSize(int presignedURLCacheSize) {
+        this.presignedURLCacheSize = presignedURLCacheSize;
+    }
+
+    public float getPresignedURLReuseRatio() {
+        return presignedURLReuseRatio;
+    }
+
+    /**
+     * Sets the ratio of the lifetime of a presigned url it's reused in, 0.5 by default. The lifetime
+     * ends when the url or the STS token it's signed with expires, so a reused url stays valid for
+     * the rest of its lifetime at least.
+     *
+     * @param presignedURLReuseRatio the ratio, between 0 and 1
+     */
+    public void setPresignedURLReuseRatio(float presignedURLReuseRatio) {
+        if (presignedURLReuseRatio < 0 || presignedURLReuseRatio > 1) {
+            throw new IllegalArgumentException("presignedURLReuseRatio should be between 0 and 1");
+        }
+        this.presignedURLReuseRatio = presignedURLReuseRatio;
+    }
 }
@@ -9,11 +9,16 @@ package com.alibaba.sdk.android.oss;
 
 import com.alibaba.sdk.android.oss.callback.OSSCompletedCallback;
 import com.alibaba.sdk.android.oss.common.auth.OSSCredentialProvider;
+import com.alibaba.sdk.android.oss.internal.ListObjectsIterator;
 import com.alibaba.sdk.android.oss.internal.OSSAsyncTask;
 import com.alibaba.sdk.android.oss.model.AbortMultipartUploadRequest;
 import com.alibaba.sdk.android.oss.model.AbortMultipartUploadResult;
 import com.alibaba.sdk.android.oss.model.AppendObjectRequest;
 import com.alibaba.sdk.android.oss.model.AppendObjectResult;
+import com.alibaba.sdk.android.oss.model.BatchPutObjectRequest;
+import com.alibaba.sdk.android.oss.model.BatchPutObjectResult;
+import com.alibaba.sdk.android.oss.model.ParallelListObjectsRequest;
+import com.alibaba.sdk.android.oss.model.ParallelListObjectsResult;
 import com.alibaba.sdk.android.oss.model.CompleteMultipartUploadRequest;
 import com.alibaba.sdk.android.oss.model.CompleteMultipartUploadResult;
 import com.alibaba.sdk.android.oss.model.CopyObjectRequest;
@@ -60,12 +65,16 @@ import com.alibaba.sdk.android.oss.model.RestoreObjectRequest;
 import com.alibaba.sdk.android.oss.model.RestoreObjectResult;
 import com.alibaba.sdk.android.oss.model.ResumableUploadRequest;
 import com.alibaba.sdk.android.oss.model.ResumableUploadResult;
+import com.alibaba.sdk.android.oss.model.StreamUploadRequest;
+import com.alibaba.sdk.android.oss.model.StreamUploadResult;
 import com.alibaba.sdk.android.oss.model.TriggerCallbackRequest;
 import com.alibaba.sdk.android.oss.model.TriggerCallbackResult;
 import com.alibaba.sdk.android.oss.model.UploadPartRequest;
 import com.alibaba.sdk.android.oss.model.UploadPartResult;
+import com.alibaba.sdk.android.oss.network.ConnectionMetrics;
 
 import java.io.IOException;
+import java.util.List;
 
 /**
  * The access entry point interface for OSS (Open Storage Service).
@@ -399,6 +408,17 @@ public interface OSS {
     public ListObjectsResult listObjects(ListObjectsRequest request)
             throws ClientException, ServiceException;
 
+    /**
+     * Iterates all objects of a listing, following the markers of the pages.
+     * The next page is fetched while the current one is consumed, at most maxBufferedPages pages are
+     * fetched ahead. Cancel the iterator to stop the listing early.
+     *
+     * @param request          the listing, its max keys is the page size
+     * @param maxBufferedPages the max count of pages fetched ahead, at least 1
+     * @return
+     */
+    public ListObjectsIterator listObjectsIterator(ListObjectsRequest request, int maxBufferedPages);
+
     /**
      * Asynchronously initialize a multipart upload
      * Before use Multipart Upload for uploading data, this API is called to initiate the multipart upload,
@@ -573,6 +593,23 @@ public interface OSS {
      */
     public void updateCredentialProvider(OSSCredentialProvider credentialProvider);
 
+    /**
+     * Gets the metrics of the connections used by this client. With a shared connection pool they
+     * include the calls of all clients sharing it.
+     */
+    public ConnectionMetrics getConnectionMetrics();
+
+    /**
+     * Resolves the hosts of the buckets and opens connections to them in the background, so the
+     * first requests to these buckets don't wait for the DNS, TCP and TLS setup. The connections
+     * stay in the pool for {@link ClientConfiguration#getKeepAliveDuration()}.
+     *
+     * @param bucketNames           the buckets to warm, they replace the ones of a previous call
+     * @param rewarmOnNetworkChange whether to warm them again after the network changed, pass false
+     *                              or no buckets to stop it
+     */
+    public void warmUpConnections(List<String> bucketNames, boolean rewarmOnNetworkChange);
+
     /**
      * Asynchronously do a multipart upload
      *
@@ -626,6 +663,73 @@ public interface OSS {
     public ResumableUploadResult sequenceUpload(ResumableUploadRequest request)
             throws ClientException, ServiceException;
 
+    /**
+     * Asynchronously upload an InputStream whose length is unknown beforehand.
+     * A short stream is uploaded by PutObject, a longer one by a multipart upload
+     * whose parts are uploaded while the stream is still being read.
+     *
+     * @param request
+     * @param completedCallback
+     * @return
+     */
+    public OSSAsyncTask<StreamUploadResult> asyncStreamUpload(
+            StreamUploadRequest request, OSSCompletedCallback<StreamUploadRequest, StreamUploadResult> completedCallback);
+
+    /**
+     * Synchronously upload an InputStream whose length is unknown beforehand.
+     *
+     * @param request
+     * @return
+     * @throws ClientException
+     * @throws ServiceException
+     */
+    public StreamUploadResult streamUpload(StreamUploadRequest request)
+            throws ClientException, ServiceException;
+
+    /**
+     * Asynchronously upload many small objects with a bounded concurrency.
+     * The result holds every object's result or error, a failed object does not fail the batch.
+     *
+     * @param request
+     * @param completedCallback
+     * @return
+     */
+    public OSSAsyncTask<BatchPutObjectResult> asyncBatchPutObject(
+            BatchPutObjectRequest request, OSSCompletedCallback<BatchPutObjectRequest, BatchPutObjectResult> completedCallback);
+
+    /**
+     * Synchronously upload many small objects with a bounded concurrency.
+     *
+     * @param request
+     * @return
+     * @throws ClientException
+     * @throws ServiceException
+     */
+    public BatchPutObjectResult batchPutObject(BatchPutObjectRequest request)
+            throws ClientException, ServiceException;
+
+    /**
+     * Asynchronously list the objects of a prefix by listing its shards concurrently.
+     * The shards are the common prefixes under the prefix or the ranges between the split keys.
+     *
+     * @param request
+     * @param completedCallback
+     * @return
+     */
+    public OSSAsyncTask<ParallelListObjectsResult> asyncParallelListObjects(
+            ParallelListObjectsRequest request, OSSCompletedCallback<ParallelListObjectsRequest, ParallelListObjectsResult> completedCallback);
+
+    /**
+     * Synchronously list the objects of a prefix by listing its shards concurrently.
+     *
+     * @param request
+     * @return
+     * @throws ClientException
+     * @throws ServiceException
+     */
+    public ParallelListObjectsResult parallelListObjects(ParallelListObjectsRequest request)
+            throws ClientException, ServiceException;
+
     /**
      * Generates the signed url for 3rd parties accessing object
      *
@@ -648,6 +752,21 @@ public interface OSS {
     public String presignConstrainedObjectURL(String bucketName, String objectKey, long expiredTimeInSeconds)
             throws ClientException;
 
+    /**
+     * Generates the signed GET urls of many objects of a bucket at once, e.g. for a list of images.
+     * The credentials, expiration and host are shared by the batch.
+     *
+     * @param bucketName           bucket name
+     * @param objectKeys           Object keys
+     * @param processes            the image process of each object, null or a null item for none
+     * @param expiredTimeInSeconds URL's expiration time in seconds
+     * @return the urls in the order of the keys
+     * @throws ClientException
+     */
+    public List<String> presignConstrainedObjectURLs(String bucketName, List<String> objectKeys,
+                                                     List<String> processes, long expiredTimeInSeconds)
+            throws ClientException;
+
     /**
      * Generates the signed  url for the public available object
      *
@@ -0,0 +1,308 @@
+package com.alibaba.sdk.android.oss;
+
+import com.alibaba.sdk.android.oss.common.OSSConstants;
+import com.alibaba.sdk.android.oss.common.OSSLog;
+import com.alibaba.sdk.android.oss.model.AppendObjectRequest;
+import com.alibaba.sdk.android.oss.model.AppendObjectResult;
+import com.alibaba.sdk.android.oss.model.OSSRequest;
+import com.alibaba.sdk.android.oss.model.ObjectMetadata;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * An OutputStream which writes to an appendable object.
+ * <p>
+ * Small writes are coalesced into one AppendObject request once the buffered data reaches the
+ * flush size, or once the oldest buffered byte has waited for the flush interval. The append
+ * position and the object's CRC64 are chained from one append to the next, so the caller does not
+ * need to track them. While an append is in flight, the following writes are buffered, at most one
+ * append is in flight at a time.
+ * <p>
+ * {@link #close()} must be called to send the remaining data.
+ */
+public class OSSAppendOutputStream extends OutputStream {
+
+    public static final int DEFAULT_FLUSH_SIZE = 256 * OSSConstants.KB;
+    public static final long DEFAULT_FLUSH_INTERVAL = 1000;
+
+    private static ExecutorService executorService =
+            Executors.newFixedThreadPool(OSSConstants.DEFAULT_BASE_THREAD_POOL_SIZE, new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable r) {
+                    return new Thread(r, "oss-android-append-thread");
+                }
+            });
+    // kept apart from the append threads, a timer waiting for a stream must not hold up the appends
+    private static ScheduledExecutorService flushScheduler =
+            Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable r) {
+                    return new Thread(r, "oss-android-append-flush-thread");
+                }
+            });
+
+    private final OSS oss;
+    private final String bucketName;
+    private final String objectKey;
+    private ObjectMetadata metadata;
+    private final int flushSize;
+    private final long flushInterval;
+    // a lock rather than the monitor, the flush timer must not wait for a writer waiting for an append
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private byte[] buffer;
+    private int count;
+    private long nextPosition;
+    private Long crc64;
+    private Future<AppendObjectResult> inFlight;
+    private long inFlightLength;
+    private IOException failure;
+    private boolean scheduled;
+    private boolean closed;
+
+    /**
+     * Creates a stream appending to a new object, or to an object whose length is position
+     *
+     * @param oss        the oss client
+     * @param bucketName the bucket name
+     * @param objectKey  the object key
+     * @param position   the current length of the object, 0 for a new object
+     */
+    public OSSAppendOutputStream(OSS oss, String bucketName, String objectKey, long position) {
+        this(oss, bucketName, objectKey, position, position == 0 ? Long.valueOf(0) : null, null,
+                DEFAULT_FLUSH_SIZE, DEFAULT_FLUSH_INTERVAL);
+    }
+
+    /**
+     * Creates a stream appending to an object
+     *
+     * @param oss           the oss client
+     * @param bucketName    the bucket name
+     * @param objectKey     the object key
+     * @param position      the current length of the object, 0 for a new object
+     * @param initCRC64     the CRC64 of the current object content, every append is checked with the
+     *                      chained CRC64 unless it is null
+     * @param metadata      the metadata used when the object is created by the first append
+     * @param flushSize     the buffered size in byte that triggers an append
+     * @param flushInterval the longest time in millisecond data is buffered before an append
+     */
+    public OSSAppendOutputStream(OSS oss, String bucketName, String objectKey, long position, Long initCRC64,
+                                 ObjectMetadata metadata, int flushSize, long flushInterval) {
+        if (flushSize <= 0) {
+            throw new IllegalArgumentException("flushSize must be greater than 0!");
+        }
+        this.oss = oss;
+        this.bucketName = bucketName;
+        this.objectKey = objectKey;
+        this.nextPosition = position;
+        this.crc64 = initCRC64;
+        this.metadata = metadata;
+        this.flushSize = flushSize;
+        this.flushInterval = flushInterval;
+        this.buffer = new byte[flushSize];
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        lock.lock();
+        try {
+            ensureOpen();
+            if (off < 0 || len < 0 || off + len > b.length) {
+                throw new IndexOutOfBoundsException();
+            }
+            while (len > 0) {
+                int n = Math.min(len, flushSize - count);
+                System.arraycopy(b, off, buffer, count, n);
+                count += n;
+                off += n;
+                len -= n;
+                if (count == flushSize) {
+                    sendBuffer();
+                }
+            }
+            scheduleFlush();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Sends the buffered data and waits until all appends are finished
+     */
+    @Override
+    public void flush() throws IOException {
+        lock.lock();
+        try {
+            ensureOpen();
+            sendBuffer();
+            waitForInFlight();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            try {
+                flush();
+            } finally {
+                closed = true;
+                buffer = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the position the next append starts at, it includes the data still buffered or in flight
+     */
+    public long getNextPosition() {
+        lock.lock();
+        try {
+            return nextPosition + inFlightLength + count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the CRC64 of the appended object content, null if it is unknown or crc64 check is disabled.
+     * Call {@link #flush()} first to include all written data.
+     */
+    public Long getCRC64() {
+        lock.lock();
+        try {
+            return crc64;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void scheduleFlush() {
+        if (count == 0 || scheduled || flushInterval <= 0) {
+            return;
+        }
+        scheduled = true;
+        flushScheduler.schedule(new Runnable() {
+            @Override
+            public void run() {
+                if (!flushByTimer()) {
+                    // a writer holds the stream, try again later instead of holding up the other streams
+                    flushScheduler.schedule(this, flushInterval, TimeUnit.MILLISECONDS);
+                }
+            }
+        }, flushInterval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @return false if the stream is locked by a writer
+     */
+    private boolean flushByTimer() {
+        if (!lock.tryLock()) {
+            return false;
+        }
+        try {
+            scheduled = false;
+            if (closed || failure != null || count == 0) {
+                return true;
+            }
+            if (inFlight != null && !inFlight.isDone()) {
+                // the data is sent with the next append, check again later
+                scheduleFlush();
+                return true;
+            }
+            try {
+                sendBuffer();
+            } catch (IOException e) {
+                OSSLog.logThrowable2Local(e);
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Hands the buffered data over to an append, once the previous one is finished
+     */
+    private void sendBuffer() throws IOException {
+        if (count == 0) {
+            return;
+        }
+        waitForInFlight();
+
+        byte[] data = new byte[count];
+        System.arraycopy(buffer, 0, data, 0, count);
+        count = 0;
+
+        final AppendObjectRequest request = new AppendObjectRequest(bucketName, objectKey, data, metadata);
+        request.setPosition(nextPosition);
+        request.setInitCRC64(crc64);
+        if (crc64 != null) {
+            request.setCRC64(OSSRequest.CRC64Config.YES);
+        }
+        metadata = null;
+        inFlightLength = data.length;
+        inFlight = executorService.submit(new Callable<AppendObjectResult>() {
+            @Override
+            public AppendObjectResult call() throws Exception {
+                return oss.appendObject(request);
+            }
+        });
+    }
+
+    private void waitForInFlight() throws IOException {
+        if (inFlight == null) {
+            return;
+        }
+        try {
+            AppendObjectResult result = inFlight.get();
+            nextPosition = result.getNextPosition();
+            // appendObject has combined initCRC64 with the appended data into the object's crc64
+            crc64 = crc64 != null ? result.getClientCRC() : null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure = new IOException("Interrupted while appending " + objectKey);
+            throw failure;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            failure = new IOException("Append to " + objectKey + " at position " + nextPosition
+                    + " failed: " + cause.getMessage());
+            failure.initCause(cause);
+            throw failure;
+        } finally {
+            inFlight = null;
+            inFlightLength = 0;
+        }
+    }
+}
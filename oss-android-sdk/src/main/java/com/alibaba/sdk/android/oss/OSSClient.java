@@ -11,11 +11,16 @@ import android.content.Context;
 
 import com.alibaba.sdk.android.oss.callback.OSSCompletedCallback;
 import com.alibaba.sdk.android.oss.common.auth.OSSCredentialProvider;
+import com.alibaba.sdk.android.oss.internal.ListObjectsIterator;
 import com.alibaba.sdk.android.oss.internal.OSSAsyncTask;
 import com.alibaba.sdk.android.oss.model.AbortMultipartUploadRequest;
 import com.alibaba.sdk.android.oss.model.AbortMultipartUploadResult;
 import com.alibaba.sdk.android.oss.model.AppendObjectRequest;
 import com.alibaba.sdk.android.oss.model.AppendObjectResult;
+import com.alibaba.sdk.android.oss.model.BatchPutObjectRequest;
+import com.alibaba.sdk.android.oss.model.BatchPutObjectResult;
+import com.alibaba.sdk.android.oss.model.ParallelListObjectsRequest;
+import com.alibaba.sdk.android.oss.model.ParallelListObjectsResult;
 import com.alibaba.sdk.android.oss.model.CompleteMultipartUploadRequest;
 import com.alibaba.sdk.android.oss.model.CompleteMultipartUploadResult;
 import com.alibaba.sdk.android.oss.model.CopyObjectRequest;
@@ -62,12 +67,16 @@ import com.alibaba.sdk.android.oss.model.RestoreObjectRequest;
 import com.alibaba.sdk.android.oss.model.RestoreObjectResult;
 import com.alibaba.sdk.android.oss.model.ResumableUploadRequest;
 import com.alibaba.sdk.android.oss.model.ResumableUploadResult;
+import com.alibaba.sdk.android.oss.model.StreamUploadRequest;
+import com.alibaba.sdk.android.oss.model.StreamUploadResult;
 import com.alibaba.sdk.android.oss.model.TriggerCallbackRequest;
 import com.alibaba.sdk.android.oss.model.TriggerCallbackResult;
 import com.alibaba.sdk.android.oss.model.UploadPartRequest;
 import com.alibaba.sdk.android.oss.model.UploadPartResult;
+import com.alibaba.sdk.android.oss.network.ConnectionMetrics;
 
 import java.io.IOException;
+import java.util.List;
 
 /**
  * The entry point class of (Open Storage Service, OSS）, which is the implementation of interface
@@ -289,6 +298,11 @@ public class OSSClient implements OSS {
         return mOss.listObjects(request);
     }
 
+    @Override
+    public ListObjectsIterator listObjectsIterator(ListObjectsRequest request, int maxBufferedPages) {
+        return mOss.listObjectsIterator(request, maxBufferedPages);
+    }
+
     @Override
     public OSSAsyncTask<InitiateMultipartUploadResult> asyncInitMultipartUpload(InitiateMultipartUploadRequest request, OSSCompletedCallback<InitiateMultipartUploadRequest, InitiateMultipartUploadResult> completedCallback) {
 
@@ -369,6 +383,16 @@ public class OSSClient implements OSS {
         mOss.updateCredentialProvider(credentialProvider);
     }
 
+    @Override
+    public ConnectionMetrics getConnectionMetrics() {
+        return mOss.getConnectionMetrics();
+    }
+
+    @Override
+    public void warmUpConnections(List<String> bucketNames, boolean rewarmOnNetworkChange) {
+        mOss.warmUpConnections(bucketNames, rewarmOnNetworkChange);
+    }
+
     @Override
     public OSSAsyncTask<CompleteMultipartUploadResult> asyncMultipartUpload(
             MultipartUploadRequest request, OSSCompletedCallback<MultipartUploadRequest, CompleteMultipartUploadResult> completedCallback) {
@@ -406,6 +430,36 @@ public class OSSClient implements OSS {
         return mOss.sequenceUpload(request);
     }
 
+    @Override
+    public OSSAsyncTask<StreamUploadResult> asyncStreamUpload(StreamUploadRequest request, OSSCompletedCallback<StreamUploadRequest, StreamUploadResult> completedCallback) {
+        return mOss.asyncStreamUpload(request, completedCallback);
+    }
+
+    @Override
+    public StreamUploadResult streamUpload(StreamUploadRequest request) throws ClientException, ServiceException {
+        return mOss.streamUpload(request);
+    }
+
+    @Override
+    public OSSAsyncTask<BatchPutObjectResult> asyncBatchPutObject(BatchPutObjectRequest request, OSSCompletedCallback<BatchPutObjectRequest, BatchPutObjectResult> completedCallback) {
+        return mOss.asyncBatchPutObject(request, completedCallback);
+    }
+
+    @Override
+    public BatchPutObjectResult batchPutObject(BatchPutObjectRequest request) throws ClientException, ServiceException {
+        return mOss.batchPutObject(request);
+    }
+
+    @Override
+    public OSSAsyncTask<ParallelListObjectsResult> asyncParallelListObjects(ParallelListObjectsRequest request, OSSCompletedCallback<ParallelListObjectsRequest, ParallelListObjectsResult> completedCallback) {
+        return mOss.asyncParallelListObjects(request, completedCallback);
+    }
+
+    @Override
+    public ParallelListObjectsResult parallelListObjects(ParallelListObjectsRequest request) throws ClientException, ServiceException {
+        return mOss.parallelListObjects(request);
+    }
+
     @Override
     public String presignConstrainedObjectURL(GeneratePresignedUrlRequest request) throws ClientException {
         return mOss.presignConstrainedObjectURL(request);
@@ -418,6 +472,14 @@ public class OSSClient implements OSS {
         return mOss.presignConstrainedObjectURL(bucketName, objectKey, expiredTimeInSeconds);
     }
 
+    @Override
+    public List<String> presignConstrainedObjectURLs(String bucketName, List<String> objectKeys,
+                                                     List<String> processes, long expiredTimeInSeconds)
+            throws ClientException {
+
+        return mOss.presignConstrainedObjectURLs(bucketName, objectKeys, processes, expiredTimeInSeconds);
+    }
+
     @Override
     public String presignPublicObjectURL(String bucketName, String objectKey) {
 
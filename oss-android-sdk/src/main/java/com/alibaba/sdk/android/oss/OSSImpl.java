@@ -15,12 +15,18 @@ import com.alibaba.sdk.android.oss.common.auth.OSSCredentialProvider;
 import com.alibaba.sdk.android.oss.common.utils.OSSUtils;
 import com.alibaba.sdk.android.oss.internal.ExtensionRequestOperation;
 import com.alibaba.sdk.android.oss.internal.InternalRequestOperation;
+import com.alibaba.sdk.android.oss.internal.ListObjectsIterator;
 import com.alibaba.sdk.android.oss.internal.OSSAsyncTask;
 import com.alibaba.sdk.android.oss.internal.ObjectURLPresigner;
+import com.alibaba.sdk.android.oss.internal.PresignedURLCache;
 import com.alibaba.sdk.android.oss.model.AbortMultipartUploadRequest;
 import com.alibaba.sdk.android.oss.model.AbortMultipartUploadResult;
 import com.alibaba.sdk.android.oss.model.AppendObjectRequest;
 import com.alibaba.sdk.android.oss.model.AppendObjectResult;
+import com.alibaba.sdk.android.oss.model.BatchPutObjectRequest;
+import com.alibaba.sdk.android.oss.model.BatchPutObjectResult;
+import com.alibaba.sdk.android.oss.model.ParallelListObjectsRequest;
+import com.alibaba.sdk.android.oss.model.ParallelListObjectsResult;
 import com.alibaba.sdk.android.oss.model.CompleteMultipartUploadRequest;
 import com.alibaba.sdk.android.oss.model.CompleteMultipartUploadResult;
 import com.alibaba.sdk.android.oss.model.CopyObjectRequest;
@@ -67,14 +73,18 @@ import com.alibaba.sdk.android.oss.model.RestoreObjectRequest;
 import com.alibaba.sdk.android.oss.model.RestoreObjectResult;
 import com.alibaba.sdk.android.oss.model.ResumableUploadRequest;
 import com.alibaba.sdk.android.oss.model.ResumableUploadResult;
+import com.alibaba.sdk.android.oss.model.StreamUploadRequest;
+import com.alibaba.sdk.android.oss.model.StreamUploadResult;
 import com.alibaba.sdk.android.oss.model.TriggerCallbackRequest;
 import com.alibaba.sdk.android.oss.model.TriggerCallbackResult;
 import com.alibaba.sdk.android.oss.model.UploadPartRequest;
 import com.alibaba.sdk.android.oss.model.UploadPartResult;
+import com.alibaba.sdk.android.oss.network.ConnectionMetrics;
 
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.List;
 
 /**
  * The entry point class of (Open Storage Service, OSS）, which is the implementation of interface
@@ -87,6 +97,7 @@ class OSSImpl implements OSS {
     private InternalRequestOperation internalRequestOperation;
     private ExtensionRequestOperation extensionRequestOperation;
     private ClientConfiguration conf;
+    private PresignedURLCache presignedURLCache;
 
     /**
      * Creates a {@link OSSImpl} instance.
@@ -128,6 +139,7 @@ class OSSImpl implements OSS {
 
         internalRequestOperation = new InternalRequestOperation(context.getApplicationContext(), endpointURI, credentialProvider, this.conf);
         extensionRequestOperation = new ExtensionRequestOperation(internalRequestOperation);
+        initPresignedURLCache();
     }
 
     public OSSImpl(Context context, OSSCredentialProvider credentialProvider, ClientConfiguration conf) {
@@ -135,6 +147,13 @@ class OSSImpl implements OSS {
         this.conf = (conf == null ? ClientConfiguration.getDefaultConf() : conf);
         internalRequestOperation = new InternalRequestOperation(context.getApplicationContext(), credentialProvider, this.conf);
         extensionRequestOperation = new ExtensionRequestOperation(internalRequestOperation);
+        initPresignedURLCache();
+    }
+
+    private void initPresignedURLCache() {
+        if (conf.getPresignedURLCacheSize() > 0) {
+            presignedURLCache = new PresignedURLCache(conf.getPresignedURLCacheSize(), conf.getPresignedURLReuseRatio());
+        }
     }
 
     @Override
@@ -320,6 +339,11 @@ class OSSImpl implements OSS {
         return internalRequestOperation.listObjects(request, null).getResult();
     }
 
+    @Override
+    public ListObjectsIterator listObjectsIterator(ListObjectsRequest request, int maxBufferedPages) {
+        return extensionRequestOperation.listObjectsIterator(request, maxBufferedPages);
+    }
+
     @Override
     public OSSAsyncTask<InitiateMultipartUploadResult> asyncInitMultipartUpload(InitiateMultipartUploadRequest request, OSSCompletedCallback<InitiateMultipartUploadRequest, InitiateMultipartUploadResult> completedCallback) {
 
@@ -399,6 +423,19 @@ class OSSImpl implements OSS {
     public void updateCredentialProvider(OSSCredentialProvider credentialProvider) {
         this.credentialProvider = credentialProvider;
         internalRequestOperation.setCredentialProvider(credentialProvider);
+        if (presignedURLCache != null) {
+            presignedURLCache.clear();
+        }
+    }
+
+    @Override
+    public ConnectionMetrics getConnectionMetrics() {
+        return internalRequestOperation.getConnectionMetrics();
+    }
+
+    @Override
+    public void warmUpConnections(List<String> bucketNames, boolean rewarmOnNetworkChange) {
+        internalRequestOperation.warmUpConnections(bucketNames, rewarmOnNetworkChange);
     }
 
     @Override
@@ -444,9 +481,51 @@ class OSSImpl implements OSS {
         return extensionRequestOperation.sequenceUpload(request, null).getResult();
     }
 
+    @Override
+    public OSSAsyncTask<StreamUploadResult> asyncStreamUpload(
+            StreamUploadRequest request, OSSCompletedCallback<StreamUploadRequest, StreamUploadResult> completedCallback) {
+
+        return extensionRequestOperation.streamUpload(request, completedCallback);
+    }
+
+    @Override
+    public StreamUploadResult streamUpload(StreamUploadRequest request)
+            throws ClientException, ServiceException {
+
+        return extensionRequestOperation.streamUpload(request, null).getResult();
+    }
+
+    @Override
+    public OSSAsyncTask<BatchPutObjectResult> asyncBatchPutObject(
+            BatchPutObjectRequest request, OSSCompletedCallback<BatchPutObjectRequest, BatchPutObjectResult> completedCallback) {
+
+        return extensionRequestOperation.batchPutObject(request, completedCallback);
+    }
+
+    @Override
+    public BatchPutObjectResult batchPutObject(BatchPutObjectRequest request)
+            throws ClientException, ServiceException {
+
+        return extensionRequestOperation.batchPutObject(request, null).getResult();
+    }
+
+    @Override
+    public OSSAsyncTask<ParallelListObjectsResult> asyncParallelListObjects(
+            ParallelListObjectsRequest request, OSSCompletedCallback<ParallelListObjectsRequest, ParallelListObjectsResult> completedCallback) {
+
+        return extensionRequestOperation.parallelListObjects(request, completedCallback);
+    }
+
+    @Override
+    public ParallelListObjectsResult parallelListObjects(ParallelListObjectsRequest request)
+            throws ClientException, ServiceException {
+
+        return extensionRequestOperation.parallelListObjects(request, null).getResult();
+    }
+
     @Override
     public String presignConstrainedObjectURL(GeneratePresignedUrlRequest request) throws ClientException {
-        return new ObjectURLPresigner(this.endpointURI, this.credentialProvider, this.conf)
+        return new ObjectURLPresigner(this.endpointURI, this.credentialProvider, this.conf, presignedURLCache)
                 .presignConstrainedURL(request);
     }
 
@@ -454,10 +533,19 @@ class OSSImpl implements OSS {
     public String presignConstrainedObjectURL(String bucketName, String objectKey, long expiredTimeInSeconds)
             throws ClientException {
 
-        return new ObjectURLPresigner(this.endpointURI, this.credentialProvider, this.conf)
+        return new ObjectURLPresigner(this.endpointURI, this.credentialProvider, this.conf, presignedURLCache)
                 .presignConstrainedURL(bucketName, objectKey, expiredTimeInSeconds);
     }
 
+    @Override
+    public List<String> presignConstrainedObjectURLs(String bucketName, List<String> objectKeys,
+                                                     List<String> processes, long expiredTimeInSeconds)
+            throws ClientException {
+
+        return new ObjectURLPresigner(this.endpointURI, this.credentialProvider, this.conf, presignedURLCache)
+                .presignConstrainedURLs(bucketName, objectKeys, processes, expiredTimeInSeconds);
+    }
+
     @Override
     public String presignPublicObjectURL(String bucketName, String objectKey) {
 
@@ -0,0 +1,713 @@
+package com.alibaba.sdk.android.oss;
+
+import com.alibaba.sdk.android.oss.callback.OSSProgressCallback;
+import com.alibaba.sdk.android.oss.common.OSSConstants;
+import com.alibaba.sdk.android.oss.common.OSSHeaders;
+import com.alibaba.sdk.android.oss.common.OSSLog;
+import com.alibaba.sdk.android.oss.common.utils.BandwidthLimiter;
+import com.alibaba.sdk.android.oss.common.utils.IOUtils;
+import com.alibaba.sdk.android.oss.common.utils.OSSUtils;
+import com.alibaba.sdk.android.oss.internal.OSSAsyncTask;
+import com.alibaba.sdk.android.oss.model.GetObjectRequest;
+import com.alibaba.sdk.android.oss.model.GetObjectResult;
+import com.alibaba.sdk.android.oss.model.MultipartUploadRequest;
+import com.alibaba.sdk.android.oss.model.OSSResult;
+import com.alibaba.sdk.android.oss.model.Range;
+import com.alibaba.sdk.android.oss.model.ResumableUploadRequest;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Queues uploads and downloads by priority and runs them under a global concurrency and
+ * bandwidth budget.
+ * <p>
+ * A transfer waiting with a higher priority than a running one preempts it when no slot is free:
+ * the running transfer is paused and queued again. Only resumable transfers are preempted, i.e. a
+ * resumable upload with a record directory, or a download, which continues from the downloaded
+ * length. A paused multipart upload starts over when it is resumed.
+ */
+public class TransferManager {
+
+    public static final int PRIORITY_BACKGROUND = 0;
+    public static final int PRIORITY_NORMAL = 5;
+    public static final int PRIORITY_USER = 10;
+
+    public static final int DEFAULT_MAX_CONCURRENT_TRANSFERS = 3;
+
+    private static final long THROUGHPUT_WINDOW = 1000;
+
+    public enum State {
+        WAITING, RUNNING, PAUSED, COMPLETED, FAILED, CANCELED
+    }
+
+    private enum StopReason {
+        PREEMPT, PAUSE, CANCEL
+    }
+
+    public interface TransferListener {
+
+        void onStateChanged(Transfer transfer);
+
+        /**
+         * @param transferredBytes the bytes transferred by the current transfers
+         * @param totalBytes       the total bytes of the current transfers, as far as they are known
+         * @param bytesPerSecond   the throughput of the last second
+         */
+        void onProgress(long transferredBytes, long totalBytes, long bytesPerSecond);
+    }
+
+    private final OSS oss;
+    private final int maxConcurrentTransfers;
+    private final BandwidthLimiter bandwidthLimiter = new BandwidthLimiter(0);
+    private final ExecutorService executorService;
+
+    private final PriorityQueue<Transfer> waiting = new PriorityQueue<Transfer>(11, new Comparator<Transfer>() {
+        @Override
+        public int compare(Transfer lhs, Transfer rhs) {
+            if (lhs.priority != rhs.priority) {
+                return lhs.priority > rhs.priority ? -1 : 1;
+            }
+            return lhs.sequence < rhs.sequence ? -1 : (lhs.sequence > rhs.sequence ? 1 : 0);
+        }
+    });
+    private final List<Transfer> running = new ArrayList<Transfer>();
+    private final List<Transfer> transfers = new ArrayList<Transfer>();
+    private TransferListener listener;
+    private long sequence;
+
+    private long windowStart = System.currentTimeMillis();
+    private long windowBytes;
+    private long bytesPerSecond;
+
+    public TransferManager(OSS oss) {
+        this(oss, DEFAULT_MAX_CONCURRENT_TRANSFERS);
+    }
+
+    /**
+     * @param oss                    the oss client
+     * @param maxConcurrentTransfers the count of transfers running at a time
+     */
+    public TransferManager(OSS oss, int maxConcurrentTransfers) {
+        if (maxConcurrentTransfers < 1) {
+            throw new IllegalArgumentException("maxConcurrentTransfers must be greater than 0!");
+        }
+        this.oss = oss;
+        this.maxConcurrentTransfers = maxConcurrentTransfers;
+        this.executorService = Executors.newCachedThreadPool(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                return new Thread(r, "oss-android-transfer-thread");
+            }
+        });
+    }
+
+    public synchronized void setListener(TransferListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Sets the bandwidth budget shared by all transfers in byte per second, 0 for unlimited
+     */
+    public void setBandwidthLimit(long bytesPerSecond) {
+        bandwidthLimiter.setBytesPerSecond(bytesPerSecond);
+    }
+
+    public long getBandwidthLimit() {
+        return bandwidthLimiter.getBytesPerSecond();
+    }
+
+    /**
+     * Gets the throughput of all transfers in byte per second
+     */
+    public synchronized long getThroughput() {
+        updateThroughput(System.currentTimeMillis());
+        return bytesPerSecond;
+    }
+
+    /**
+     * Queues a resumable upload. It is kept on the server when paused or preempted, so set a
+     * record directory on the request to continue from the uploaded parts.
+     */
+    public Transfer resumableUpload(ResumableUploadRequest request, int priority) {
+        request.setDeleteUploadOnCancelling(false);
+        return submit(new UploadTransfer(request, priority, !OSSUtils.isEmptyString(request.getRecordDirectory())));
+    }
+
+    /**
+     * Queues a multipart upload, it starts over when resumed after a pause
+     */
+    public Transfer multipartUpload(MultipartUploadRequest request, int priority) {
+        return submit(new UploadTransfer(request, priority, false));
+    }
+
+    /**
+     * Queues the download of a whole object into a local file. The data is written to
+     * filePath + ".tmp" which is renamed once the download is finished.
+     */
+    public Transfer download(GetObjectRequest request, String filePath, int priority) {
+        return submit(new DownloadTransfer(request, filePath, priority));
+    }
+
+    public synchronized List<Transfer> getTransfers() {
+        return new ArrayList<Transfer>(transfers);
+    }
+
+    /**
+     * Pauses a waiting or running transfer
+     */
+    public void pause(Transfer transfer) {
+        List<Transfer> changed = new ArrayList<Transfer>();
+        synchronized (this) {
+            if (transfer.state == State.WAITING) {
+                waiting.remove(transfer);
+                transfer.state = State.PAUSED;
+                changed.add(transfer);
+            } else if (transfer.state == State.RUNNING) {
+                transfer.stop(StopReason.PAUSE);
+            }
+        }
+        notifyStateChanged(changed);
+    }
+
+    /**
+     * Queues a paused or failed transfer again
+     */
+    public void resume(Transfer transfer) {
+        List<Transfer> changed = new ArrayList<Transfer>();
+        synchronized (this) {
+            if (transfer.state == State.PAUSED || transfer.state == State.FAILED) {
+                transfer.state = State.WAITING;
+                transfer.clientException = null;
+                transfer.serviceException = null;
+                if (!transfers.contains(transfer)) {
+                    transfers.add(transfer);
+                }
+                waiting.add(transfer);
+                changed.add(transfer);
+                schedule(changed);
+            }
+        }
+        notifyStateChanged(changed);
+    }
+
+    /**
+     * Cancels a transfer, an unfinished upload is aborted and a partial download is deleted
+     */
+    public void cancel(final Transfer transfer) {
+        List<Transfer> changed = new ArrayList<Transfer>();
+        synchronized (this) {
+            if (transfer.state == State.RUNNING) {
+                transfer.stop(StopReason.CANCEL);
+            } else if (transfer.state == State.WAITING || transfer.state == State.PAUSED
+                    || transfer.state == State.FAILED) {
+                waiting.remove(transfer);
+                transfers.remove(transfer);
+                transfer.state = State.CANCELED;
+                changed.add(transfer);
+                executorService.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        transfer.cleanUp();
+                    }
+                });
+            }
+        }
+        notifyStateChanged(changed);
+    }
+
+    public void pauseAll() {
+        for (Transfer transfer : getTransfers()) {
+            pause(transfer);
+        }
+    }
+
+    public void resumeAll() {
+        for (Transfer transfer : getTransfers()) {
+            resume(transfer);
+        }
+    }
+
+    /**
+     * Changes the priority of a transfer, a waiting transfer may preempt a running one afterwards
+     */
+    public void setPriority(Transfer transfer, int priority) {
+        List<Transfer> changed = new ArrayList<Transfer>();
+        synchronized (this) {
+            boolean queued = waiting.remove(transfer);
+            transfer.priority = priority;
+            if (queued) {
+                waiting.add(transfer);
+            }
+            schedule(changed);
+        }
+        notifyStateChanged(changed);
+    }
+
+    private Transfer submit(Transfer transfer) {
+        List<Transfer> changed = new ArrayList<Transfer>();
+        synchronized (this) {
+            transfer.sequence = sequence++;
+            transfer.state = State.WAITING;
+            transfers.add(transfer);
+            waiting.add(transfer);
+            changed.add(transfer);
+            schedule(changed);
+        }
+        notifyStateChanged(changed);
+        return transfer;
+    }
+
+    /**
+     * Starts waiting transfers while slots are free, otherwise preempts the lowest running transfer
+     * for a waiting one of a higher priority. Must be called with the lock held.
+     */
+    private void schedule(List<Transfer> changed) {
+        while (running.size() < maxConcurrentTransfers && !waiting.isEmpty()) {
+            start(waiting.poll());
+            changed.add(running.get(running.size() - 1));
+        }
+
+        Transfer next = waiting.peek();
+        if (next == null) {
+            return;
+        }
+        Transfer victim = null;
+        for (Transfer transfer : running) {
+            if (transfer.stopReason == StopReason.PREEMPT) {
+                // one preemption at a time, its slot is about to be free
+                return;
+            }
+            if (transfer.stopReason == null && transfer.isResumable() && transfer.priority < next.priority
+                    && (victim == null || transfer.priority < victim.priority)) {
+                victim = transfer;
+            }
+        }
+        if (victim != null) {
+            OSSLog.logDebug("[TransferManager] - preempt " + victim + " for " + next);
+            victim.stop(StopReason.PREEMPT);
+        }
+    }
+
+    private void start(final Transfer transfer) {
+        transfer.state = State.RUNNING;
+        transfer.stopReason = null;
+        // reset here rather than on the worker, a stop arriving before it runs must not be lost
+        transfer.stopped = false;
+        transfer.task = null;
+        transfer.runCount++;
+        running.add(transfer);
+        executorService.execute(new Runnable() {
+            @Override
+            public void run() {
+                runTransfer(transfer);
+            }
+        });
+    }
+
+    private void runTransfer(Transfer transfer) {
+        OSSResult result = null;
+        ClientException clientException = null;
+        ServiceException serviceException = null;
+        try {
+            result = transfer.doTransfer();
+        } catch (ClientException e) {
+            clientException = e;
+        } catch (ServiceException e) {
+            serviceException = e;
+        } catch (RuntimeException e) {
+            OSSLog.logThrowable2Local(e);
+            clientException = new ClientException(e.getMessage(), e);
+        }
+
+        List<Transfer> changed = new ArrayList<Transfer>();
+        boolean canceled = false;
+        synchronized (this) {
+            running.remove(transfer);
+            if (result != null) {
+                transfer.result = result;
+                transfer.state = State.COMPLETED;
+            } else if (transfer.stopReason == StopReason.PREEMPT) {
+                transfer.state = State.WAITING;
+                waiting.add(transfer);
+            } else if (transfer.stopReason == StopReason.PAUSE) {
+                transfer.state = State.PAUSED;
+            } else if (transfer.stopReason == StopReason.CANCEL) {
+                transfer.state = State.CANCELED;
+                transfers.remove(transfer);
+                canceled = true;
+            } else {
+                transfer.clientException = clientException;
+                transfer.serviceException = serviceException;
+                transfer.state = State.FAILED;
+            }
+            transfer.stopReason = null;
+            changed.add(transfer);
+            schedule(changed);
+            removeFinishedIfIdle();
+        }
+        if (canceled) {
+            transfer.cleanUp();
+        }
+        notifyStateChanged(changed);
+    }
+
+    /**
+     * Drops the finished transfers from the aggregated progress once nothing is left to run
+     */
+    private void removeFinishedIfIdle() {
+        if (!running.isEmpty() || !waiting.isEmpty()) {
+            return;
+        }
+        Iterator<Transfer> iterator = transfers.iterator();
+        while (iterator.hasNext()) {
+            State state = iterator.next().state;
+            if (state == State.COMPLETED || state == State.FAILED) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private void onTransferProgress(Transfer transfer, long currentSize, long totalSize) {
+        TransferListener listener;
+        long transferred = 0;
+        long total = 0;
+        long rate;
+        synchronized (this) {
+            long delta = currentSize - transfer.currentSize;
+            transfer.currentSize = currentSize;
+            transfer.totalSize = totalSize;
+            // the first progress of a resumed transfer reports what was done before
+            if (delta > 0 && transfer.progressCount++ > 0) {
+                windowBytes += delta;
+            }
+            updateThroughput(System.currentTimeMillis());
+            for (Transfer t : transfers) {
+                transferred += t.currentSize;
+                total += t.totalSize;
+            }
+            rate = bytesPerSecond;
+            listener = this.listener;
+        }
+        if (listener != null) {
+            listener.onProgress(transferred, total, rate);
+        }
+    }
+
+    private void updateThroughput(long now) {
+        long elapsed = now - windowStart;
+        if (elapsed >= THROUGHPUT_WINDOW) {
+            bytesPerSecond = windowBytes * 1000 / elapsed;
+            windowBytes = 0;
+            windowStart = now;
+        }
+    }
+
+    private void notifyStateChanged(List<Transfer> changed) {
+        TransferListener listener;
+        synchronized (this) {
+            listener = this.listener;
+        }
+        if (listener == null) {
+            return;
+        }
+        for (Transfer transfer : changed) {
+            listener.onStateChanged(transfer);
+        }
+    }
+
+    /**
+     * A transfer queued in a TransferManager
+     */
+    public abstract class Transfer {
+
+        private int priority;
+        private long sequence;
+        private State state;
+        private StopReason stopReason;
+        private int runCount;
+        private int progressCount;
+        private long currentSize;
+        private long totalSize;
+        private OSSResult result;
+        private ClientException clientException;
+        private ServiceException serviceException;
+
+        protected volatile boolean stopped;
+        protected volatile OSSAsyncTask task;
+
+        Transfer(int priority, long totalSize) {
+            this.priority = priority;
+            this.totalSize = totalSize;
+        }
+
+        public int getPriority() {
+            synchronized (TransferManager.this) {
+                return priority;
+            }
+        }
+
+        public State getState() {
+            synchronized (TransferManager.this) {
+                return state;
+            }
+        }
+
+        public long getCurrentSize() {
+            synchronized (TransferManager.this) {
+                return currentSize;
+            }
+        }
+
+        public long getTotalSize() {
+            synchronized (TransferManager.this) {
+                return totalSize;
+            }
+        }
+
+        /**
+         * Gets the result of a completed transfer, a ResumableUploadResult,
+         * CompleteMultipartUploadResult or GetObjectResult whose content is already consumed
+         */
+        public OSSResult getResult() {
+            synchronized (TransferManager.this) {
+                return result;
+            }
+        }
+
+        public ClientException getClientException() {
+            synchronized (TransferManager.this) {
+                return clientException;
+            }
+        }
+
+        public ServiceException getServiceException() {
+            synchronized (TransferManager.this) {
+                return serviceException;
+            }
+        }
+
+        protected boolean isFirstRun() {
+            synchronized (TransferManager.this) {
+                return runCount == 1;
+            }
+        }
+
+        protected void onProgress(long currentSize, long totalSize) {
+            onTransferProgress(this, currentSize, totalSize);
+        }
+
+        protected void checkStopped() throws ClientException {
+            if (stopped) {
+                TaskCancelException e = new TaskCancelException("transfer stopped");
+                throw new ClientException(e.getMessage(), e, true);
+            }
+        }
+
+        protected void runTask(OSSAsyncTask task) {
+            this.task = task;
+            // a stop arriving before the task is known
+            if (stopped) {
+                task.cancel();
+            }
+        }
+
+        private void stop(StopReason reason) {
+            stopReason = reason;
+            progressCount = 0;
+            stopped = true;
+            OSSAsyncTask current = task;
+            if (current != null) {
+                current.cancel();
+            }
+        }
+
+        abstract OSSResult doTransfer() throws ClientException, ServiceException;
+
+        abstract boolean isResumable();
+
+        /**
+         * Removes what a canceled transfer left behind
+         */
+        abstract void cleanUp();
+    }
+
+    private class UploadTransfer extends Transfer {
+
+        private final MultipartUploadRequest request;
+        private final boolean resumable;
+
+        UploadTransfer(MultipartUploadRequest request, int priority, boolean resumable) {
+            super(priority, new File(request.getUploadFilePath()).length());
+            this.request = request;
+            this.resumable = resumable;
+            if (request.getBandwidthLimiter() == null) {
+                request.setBandwidthLimiter(bandwidthLimiter);
+            }
+            final OSSProgressCallback progressCallback = request.getProgressCallback();
+            request.setProgressCallback(new OSSProgressCallback() {
+                @Override
+                public void onProgress(Object progressRequest, long currentSize, long totalSize) {
+                    UploadTransfer.this.onProgress(currentSize, totalSize);
+                    if (progressCallback != null) {
+                        progressCallback.onProgress(progressRequest, currentSize, totalSize);
+                    }
+                }
+            });
+        }
+
+        @Override
+        OSSResult doTransfer() throws ClientException, ServiceException {
+            OSSAsyncTask task;
+            if (request instanceof ResumableUploadRequest) {
+                task = oss.asyncResumableUpload((ResumableUploadRequest) request, null);
+            } else {
+                task = oss.asyncMultipartUpload(request, null);
+            }
+            runTask(task);
+            return task.getResult();
+        }
+
+        @Override
+        boolean isResumable() {
+            return resumable;
+        }
+
+        @Override
+        void cleanUp() {
+            if (request instanceof ResumableUploadRequest) {
+                try {
+                    oss.abortResumableUpload((ResumableUploadRequest) request);
+                } catch (IOException e) {
+                    OSSLog.logThrowable2Local(e);
+                }
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "upload " + request.getObjectKey();
+        }
+    }
+
+    private class DownloadTransfer extends Transfer {
+
+        private final GetObjectRequest request;
+        private final File file;
+        private final File tempFile;
+        private final Map<String, String> requestHeaders;
+        // the etag of the object the temp file belongs to
+        private String eTag;
+
+        DownloadTransfer(GetObjectRequest request, String filePath, int priority) {
+            super(priority, 0);
+            this.request = request;
+            this.requestHeaders = request.getRequestHeaders();
+            this.file = new File(filePath);
+            this.tempFile = new File(filePath + ".tmp");
+        }
+
+        @Override
+        OSSResult doTransfer() throws ClientException, ServiceException {
+            if (isFirstRun() || eTag == null) {
+                tempFile.delete();
+            }
+            long offset = tempFile.length();
+            GetObjectResult result;
+            try {
+                result = getObject(offset);
+            } catch (ServiceException e) {
+                if (offset == 0 || e.getStatusCode() != 412) {
+                    throw e;
+                }
+                OSSLog.logDebug("[TransferManager] - " + this + " changed, download it again");
+                tempFile.delete();
+                offset = 0;
+                result = getObject(offset);
+            }
+            if (offset == 0) {
+                eTag = result.getMetadata().getETag();
+            }
+
+            long totalSize = offset + result.getContentLength();
+            long currentSize = offset;
+            onProgress(currentSize, totalSize);
+            InputStream input = result.getObjectContent();
+            OutputStream output = null;
+            try {
+                output = new FileOutputStream(tempFile, true);
+                byte[] buffer = new byte[OSSConstants.DEFAULT_BUFFER_SIZE];
+                int read;
+                while ((read = input.read(buffer)) != -1) {
+                    checkStopped();
+                    bandwidthLimiter.acquire(read);
+                    output.write(buffer, 0, read);
+                    currentSize += read;
+                    onProgress(currentSize, totalSize);
+                }
+                checkStopped();
+                output.close();
+                output = null;
+                if (file.exists() && !file.delete() || !tempFile.renameTo(file)) {
+                    throw new ClientException("failed to move the download to " + file.getPath());
+                }
+                return result;
+            } catch (IOException e) {
+                checkStopped();
+                throw new ClientException(e.getMessage(), e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ClientException(e.getMessage(), e);
+            } finally {
+                IOUtils.safeClose(input);
+                IOUtils.safeClose(output);
+            }
+        }
+
+        /**
+         * Gets the object from the offset on, the rest is only sent while the object still has the
+         * etag of the downloaded part
+         */
+        private GetObjectResult getObject(long offset) throws ClientException, ServiceException {
+            Map<String, String> headers = requestHeaders;
+            if (offset > 0) {
+                headers = requestHeaders == null ? new HashMap<String, String>()
+                        : new HashMap<String, String>(requestHeaders);
+                headers.put(OSSHeaders.GET_OBJECT_IF_MATCH, eTag);
+            }
+            request.setRequestHeaders(headers);
+            request.setRange(offset > 0 ? new Range(offset, Range.INFINITE) : null);
+            OSSAsyncTask<GetObjectResult> task = oss.asyncGetObject(request, null);
+            runTask(task);
+            return task.getResult();
+        }
+
+        @Override
+        boolean isResumable() {
+            return true;
+        }
+
+        @Override
+        void cleanUp() {
+            tempFile.delete();
+        }
+
+        @Override
+        public String toString() {
+            return "download " + request.getObjectKey();
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.alibaba.sdk.android.oss.callback;
+
+import com.alibaba.sdk.android.oss.model.ParallelListObjectsRequest;
+
+/**
+ * Reports the progress of every shard of a parallel listing, it's called after each page.
+ */
+public interface OSSShardProgressCallback {
+
+    /**
+     * @param shard         the shard which got a page
+     * @param listedObjects the count of objects listed in the shard so far
+     * @param finished      whether the shard is listed completely
+     */
+    public void onShardProgress(ParallelListObjectsRequest.Shard shard, long listedObjects, boolean finished);
+
+}
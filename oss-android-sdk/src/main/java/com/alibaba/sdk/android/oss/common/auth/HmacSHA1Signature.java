@@ -26,6 +26,8 @@ public class HmacSHA1Signature {
     private static final String VERSION = "1"; // Signature version.
     private static final Object LOCK = new Object();
     private static Mac macInstance; // Prototype of the Mac instance.
+    // The Mac initialized with the last key of each thread, doFinal resets it for the next signature.
+    private static final ThreadLocal<KeyedMac> threadMac = new ThreadLocal<KeyedMac>();
 
     public HmacSHA1Signature() {
     }
@@ -43,9 +45,7 @@ public class HmacSHA1Signature {
         OSSLog.logDebug(getVersion(), false);
         String sign = null;
         try {
-            byte[] signData = sign(
-                    key.getBytes(DEFAULT_ENCODING),
-                    data.getBytes(DEFAULT_ENCODING));
+            byte[] signData = sign(key, data.getBytes(DEFAULT_ENCODING));
 
             sign = BinaryUtil.toBase64String(signData);
         } catch (UnsupportedEncodingException ex) {
@@ -55,8 +55,16 @@ public class HmacSHA1Signature {
     }
 
 
-    private byte[] sign(byte[] key, byte[] data) {
-        byte[] sign = null;
+    private byte[] sign(String key, byte[] data) throws UnsupportedEncodingException {
+        KeyedMac keyedMac = threadMac.get();
+        if (keyedMac == null || !keyedMac.key.equals(key)) {
+            keyedMac = new KeyedMac(key, newMac(key.getBytes(DEFAULT_ENCODING)));
+            threadMac.set(keyedMac);
+        }
+        return keyedMac.mac.doFinal(data);
+    }
+
+    private Mac newMac(byte[] key) {
         try {
             // Because Mac.getInstance(String) calls a synchronized method,
             // it could block on invoked concurrently.
@@ -77,12 +85,21 @@ public class HmacSHA1Signature {
                 mac = Mac.getInstance(getAlgorithm());
             }
             mac.init(new SecretKeySpec(key, getAlgorithm()));
-            sign = mac.doFinal(data);
+            return mac;
         } catch (NoSuchAlgorithmException ex) {
             throw new RuntimeException("Unsupported algorithm: " + ALGORITHM);
         } catch (InvalidKeyException ex) {
             throw new RuntimeException("key must not be null");
         }
-        return sign;
+    }
+
+    private static class KeyedMac {
+        private final String key;
+        private final Mac mac;
+
+        KeyedMac(String key, Mac mac) {
+            this.key = key;
+            this.mac = mac;
+        }
     }
 }
\ No newline at end of file
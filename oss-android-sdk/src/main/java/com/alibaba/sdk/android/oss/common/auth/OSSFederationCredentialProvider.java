@@ -4,12 +4,39 @@ import com.alibaba.sdk.android.oss.ClientException;
 import com.alibaba.sdk.android.oss.common.OSSLog;
 import com.alibaba.sdk.android.oss.common.utils.DateUtil;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 /**
  * Created by zhouzhuo on 11/4/15.
+ * <p>
+ * The token is fetched again in the background 5 minutes ahead of its expiration while the cached
+ * one is still served, the requests only wait for a fetch when there is no token or it expires
+ * within a minute. Concurrent fetches are deduplicated and a failed background fetch is retried
+ * with an exponential backoff.
  */
 public abstract class OSSFederationCredentialProvider implements OSSCredentialProvider {
 
+    private static final long REFRESH_AHEAD_IN_SEC = 5 * 60;
+    private static final long EXPIRATION_MARGIN_IN_SEC = 60;
+    private static final long MIN_BACKOFF_IN_MS = 1000;
+    private static final long MAX_BACKOFF_IN_MS = 60 * 1000;
+
+    private static ExecutorService refreshExecutor =
+            Executors.newSingleThreadExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable r) {
+                    return new Thread(r, "oss-android-token-refresh-thread");
+                }
+            });
+
     private volatile OSSFederationToken cachedToken;
+    private final Object fetchLock = new Object();
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private volatile long nextRefreshTime;
+    private long backoff = MIN_BACKOFF_IN_MS;
 
     /**
      * Gets the valid STS token. The subclass needs to implement this function.
@@ -18,19 +45,59 @@ public abstract class OSSFederationCredentialProvider implements OSSCredentialPr
      */
     public abstract OSSFederationToken getFederationToken() throws ClientException;
 
-    public synchronized OSSFederationToken getValidFederationToken() throws ClientException {
-        // Checks if the STS token is expired. To avoid returning staled data, here we pre-fetch the token 5 minutes a head of the real expiration.
-        // The minimal expiration time is 15 minutes
-        if (cachedToken == null
-                || DateUtil.getFixedSkewedTimeMillis() / 1000 > cachedToken.getExpiration() - 5 * 60) {
+    public OSSFederationToken getValidFederationToken() throws ClientException {
+        OSSFederationToken token = cachedToken;
+        long now = DateUtil.getFixedSkewedTimeMillis() / 1000;
+        if (token != null && now <= token.getExpiration() - REFRESH_AHEAD_IN_SEC) {
+            return token;
+        }
+        if (token != null && now <= token.getExpiration() - EXPIRATION_MARGIN_IN_SEC) {
+            refreshInBackground(token);
+            return token;
+        }
 
-            if (cachedToken != null) {
-                OSSLog.logDebug("token expired! current time: " + DateUtil.getFixedSkewedTimeMillis() / 1000 + " token expired: " + cachedToken.getExpiration());
+        synchronized (fetchLock) {
+            // another thread may have fetched it meanwhile
+            token = cachedToken;
+            now = DateUtil.getFixedSkewedTimeMillis() / 1000;
+            if (token == null || now > token.getExpiration() - EXPIRATION_MARGIN_IN_SEC) {
+                if (token != null) {
+                    OSSLog.logDebug("token expired! current time: " + now + " token expired: " + token.getExpiration());
+                }
+                token = getFederationToken();
+                cachedToken = token;
             }
-            cachedToken = getFederationToken();
+            return token;
         }
+    }
 
-        return cachedToken;
+    private void refreshInBackground(final OSSFederationToken staleToken) {
+        if (System.currentTimeMillis() < nextRefreshTime || !refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        refreshExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    synchronized (fetchLock) {
+                        if (cachedToken != staleToken) {
+                            return;
+                        }
+                        OSSLog.logDebug("token expires soon, refresh it: " + staleToken.getExpiration());
+                        try {
+                            cachedToken = getFederationToken();
+                            backoff = MIN_BACKOFF_IN_MS;
+                        } catch (Exception e) {
+                            OSSLog.logWarn("refresh token failed, retry in " + backoff + "ms: " + e.toString());
+                            nextRefreshTime = System.currentTimeMillis() + backoff;
+                            backoff = Math.min(backoff * 2, MAX_BACKOFF_IN_MS);
+                        }
+                    }
+                } finally {
+                    refreshing.set(false);
+                }
+            }
+        });
     }
 
     public OSSFederationToken getCachedToken() {
@@ -0,0 +1,58 @@
+package com.alibaba.sdk.android.oss.common.utils;
+
+/**
+ * A token bucket shared by transfers to keep their total rate under a budget.
+ * <p>
+ * The bucket holds at most one second of budget, so an idle period does not allow a burst
+ * larger than that.
+ */
+public class BandwidthLimiter {
+
+    private long bytesPerSecond;
+    private double available;
+    private long lastRefill = System.nanoTime();
+
+    /**
+     * @param bytesPerSecond the budget in byte per second, 0 or less for unlimited
+     */
+    public BandwidthLimiter(long bytesPerSecond) {
+        setBytesPerSecond(bytesPerSecond);
+    }
+
+    public synchronized long getBytesPerSecond() {
+        return bytesPerSecond;
+    }
+
+    /**
+     * Sets the budget in byte per second, 0 or less for unlimited
+     */
+    public synchronized void setBytesPerSecond(long bytesPerSecond) {
+        this.bytesPerSecond = Math.max(0, bytesPerSecond);
+        this.available = Math.min(available, this.bytesPerSecond);
+        notifyAll();
+    }
+
+    /**
+     * Takes the budget for byteCount bytes, waits while the budget is used up.
+     * A request larger than the bucket is let through once the bucket is full and leaves a debt
+     * which the following requests wait for.
+     */
+    public synchronized void acquire(long byteCount) throws InterruptedException {
+        while (bytesPerSecond > 0) {
+            refill();
+            if (available >= Math.min(byteCount, bytesPerSecond)) {
+                available -= byteCount;
+                return;
+            }
+            double missing = Math.min(byteCount, bytesPerSecond) - available;
+            long waitMillis = (long) Math.ceil(missing * 1000 / bytesPerSecond);
+            wait(Math.max(1, waitMillis));
+        }
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        available = Math.min(bytesPerSecond, available + (now - lastRefill) / 1e9 * bytesPerSecond);
+        lastRefill = now;
+    }
+}
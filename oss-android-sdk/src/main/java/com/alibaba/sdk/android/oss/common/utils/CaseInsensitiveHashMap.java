@@ -4,8 +4,10 @@ import java.util.HashMap;
 
 /**
  * Created by wangzheng on 2018/7/12.
+ *
+ * @deprecated only matches exact or lowercase keys, use {@link HeaderMap}
  */
-
+@Deprecated
 public class CaseInsensitiveHashMap<k,v> extends HashMap<k,v> {
     @Override
     //只能做到小写和驼峰兼容。
@@ -16,6 +16,10 @@ import java.util.SimpleTimeZone;
 
 /**
  * Util class for Date.
+ * <p>
+ * The dates of the formats OSS uses are formatted and parsed by hand, without locks and
+ * SimpleDateFormat instances, other strings fall back to SimpleDateFormat. The Date header of the
+ * requests is formatted once per second.
  */
 public class DateUtil {
 
@@ -28,7 +32,17 @@ public class DateUtil {
     // Alternate ISO 8601 format without fractional seconds
     private static final String ALTERNATIVE_ISO8601_DATE_FORMAT =
             "yyyy-MM-dd'T'HH:mm:ss'Z'";
+    private static final String[] DAYS_OF_WEEK = {"Sun", "Mon", "Tue", "Wed", "Thu", "Fri", "Sat"};
+    private static final String[] MONTHS =
+            {"Jan", "Feb", "Mar", "Apr", "May", "Jun", "Jul", "Aug", "Sep", "Oct", "Nov", "Dec"};
+    private static final long MILLIS_PER_DAY = 24 * 60 * 60 * 1000L;
+    // the years the fast paths handle, the other ones go through SimpleDateFormat
+    private static final int MIN_FAST_YEAR = 1900;
+    private static final long MIN_FAST_MILLIS = -2208988800000L; // 1900-01-01T00:00:00Z
+    private static final long MAX_FAST_MILLIS = 253402300799999L; // 9999-12-31T23:59:59.999Z
+
     private volatile static long amendTimeSkewed = 0;
+    private volatile static CachedDate cachedRfc822Date;
 
     /**
      * Formats Date to GMT string.
@@ -37,7 +51,19 @@ public class DateUtil {
      * @return
      */
     public static String formatRfc822Date(Date date) {
-        return getRfc822DateFormat().format(date);
+        long millis = date.getTime();
+        if (millis < MIN_FAST_MILLIS || millis > MAX_FAST_MILLIS) {
+            return getRfc822DateFormat().format(date);
+        }
+        long days = floorDiv(millis, MILLIS_PER_DAY);
+        int millisOfDay = (int) (millis - days * MILLIS_PER_DAY);
+        int[] ymd = civilFromDays(days);
+        StringBuilder sb = new StringBuilder(29);
+        sb.append(DAYS_OF_WEEK[(int) floorMod(days + 4, 7)]).append(", ");
+        appendDigits(sb, ymd[2], 2).append(' ').append(MONTHS[ymd[1] - 1]).append(' ');
+        appendDigits(sb, ymd[0], 4).append(' ');
+        appendTime(sb, millisOfDay).append(" GMT");
+        return sb.toString();
     }
 
     /**
@@ -48,6 +74,18 @@ public class DateUtil {
      * @throws ParseException
      */
     public static Date parseRfc822Date(String dateString) throws ParseException {
+        // EEE, dd MMM yyyy HH:mm:ss GMT
+        if (dateString != null && dateString.length() == 29 && dateString.charAt(3) == ','
+                && dateString.charAt(4) == ' ' && dateString.charAt(7) == ' ' && dateString.charAt(11) == ' '
+                && dateString.charAt(16) == ' ' && dateString.startsWith(" GMT", 25)) {
+            int day = parseDigits(dateString, 5, 2);
+            int month = parseMonth(dateString, 8);
+            int year = parseDigits(dateString, 12, 4);
+            long millisOfDay = parseTime(dateString, 17);
+            if (day > 0 && month > 0 && year >= MIN_FAST_YEAR && millisOfDay >= 0 && day <= daysInMonth(year, month)) {
+                return new Date(daysFromCivil(year, month, day) * MILLIS_PER_DAY + millisOfDay);
+            }
+        }
         return getRfc822DateFormat().parse(dateString);
     }
 
@@ -60,11 +98,31 @@ public class DateUtil {
     }
 
     public static String formatIso8601Date(Date date) {
-        return getIso8601DateFormat().format(date);
+        return formatIso8601Date(date, true);
     }
 
     public static String formatAlternativeIso8601Date(Date date) {
-        return getAlternativeIso8601DateFormat().format(date);
+        return formatIso8601Date(date, false);
+    }
+
+    private static String formatIso8601Date(Date date, boolean withMillis) {
+        long millis = date.getTime();
+        if (millis < MIN_FAST_MILLIS || millis > MAX_FAST_MILLIS) {
+            return withMillis ? getIso8601DateFormat().format(date)
+                    : getAlternativeIso8601DateFormat().format(date);
+        }
+        long days = floorDiv(millis, MILLIS_PER_DAY);
+        int millisOfDay = (int) (millis - days * MILLIS_PER_DAY);
+        int[] ymd = civilFromDays(days);
+        StringBuilder sb = new StringBuilder(24);
+        appendDigits(sb, ymd[0], 4).append('-');
+        appendDigits(sb, ymd[1], 2).append('-');
+        appendDigits(sb, ymd[2], 2).append('T');
+        appendTime(sb, millisOfDay);
+        if (withMillis) {
+            appendDigits(sb.append('.'), millisOfDay % 1000, 3);
+        }
+        return sb.append('Z').toString();
     }
 
     /**
@@ -75,10 +133,37 @@ public class DateUtil {
      * @throws ParseException
      */
     public static Date parseIso8601Date(String dateString) throws ParseException {
+        return new Date(parseIso8601DateMillis(dateString));
+    }
+
+    /**
+     * Parse a date string in the format of ISO 8601 to the milliseconds since the epoch, without
+     * creating a Date in the common case.
+     *
+     * @param dateString
+     * @return
+     * @throws ParseException
+     */
+    public static long parseIso8601DateMillis(String dateString) throws ParseException {
+        // yyyy-MM-ddTHH:mm:ss.SSSZ or yyyy-MM-ddTHH:mm:ssZ
+        int length = dateString == null ? 0 : dateString.length();
+        if ((length == 24 && dateString.charAt(19) == '.' || length == 20)
+                && dateString.charAt(4) == '-' && dateString.charAt(7) == '-' && dateString.charAt(10) == 'T'
+                && dateString.charAt(length - 1) == 'Z') {
+            int year = parseDigits(dateString, 0, 4);
+            int month = parseDigits(dateString, 5, 2);
+            int day = parseDigits(dateString, 8, 2);
+            long millisOfDay = parseTime(dateString, 11);
+            int millis = length == 24 ? parseDigits(dateString, 20, 3) : 0;
+            if (year >= MIN_FAST_YEAR && month >= 1 && month <= 12 && day >= 1 && day <= daysInMonth(year, month)
+                    && millisOfDay >= 0 && millis >= 0) {
+                return daysFromCivil(year, month, day) * MILLIS_PER_DAY + millisOfDay + millis;
+            }
+        }
         try {
-            return getIso8601DateFormat().parse(dateString);
+            return getIso8601DateFormat().parse(dateString).getTime();
         } catch (ParseException e) {
-            return getAlternativeIso8601DateFormat().parse(dateString);
+            return getAlternativeIso8601DateFormat().parse(dateString).getTime();
         }
     }
 
@@ -102,11 +187,131 @@ public class DateUtil {
         return System.currentTimeMillis() + amendTimeSkewed;
     }
 
-    public static synchronized String currentFixedSkewedTimeInRFC822Format() {
-        return formatRfc822Date(new Date(getFixedSkewedTimeMillis()));
+    public static String currentFixedSkewedTimeInRFC822Format() {
+        long millis = getFixedSkewedTimeMillis();
+        long second = floorDiv(millis, 1000);
+        CachedDate cached = cachedRfc822Date;
+        if (cached != null && cached.second == second) {
+            return cached.value;
+        }
+        String value = formatRfc822Date(new Date(second * 1000));
+        cachedRfc822Date = new CachedDate(second, value);
+        return value;
     }
 
-    public static synchronized void setCurrentServerTime(long serverTime) {
+    public static void setCurrentServerTime(long serverTime) {
         amendTimeSkewed = serverTime - System.currentTimeMillis();
     }
+
+    private static StringBuilder appendTime(StringBuilder sb, int millisOfDay) {
+        int seconds = millisOfDay / 1000;
+        appendDigits(sb, seconds / 3600, 2).append(':');
+        appendDigits(sb, seconds / 60 % 60, 2).append(':');
+        return appendDigits(sb, seconds % 60, 2);
+    }
+
+    private static StringBuilder appendDigits(StringBuilder sb, int value, int width) {
+        for (int divisor = width == 4 ? 1000 : width == 3 ? 100 : 10; divisor > 0; divisor /= 10) {
+            sb.append((char) ('0' + value / divisor % 10));
+        }
+        return sb;
+    }
+
+    /**
+     * Parses the digits at the given position, -1 if there is a non digit
+     */
+    private static int parseDigits(String s, int start, int count) {
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    /**
+     * Parses HH:mm:ss at the given position to millis, -1 if it's invalid
+     */
+    private static long parseTime(String s, int start) {
+        if (s.charAt(start + 2) != ':' || s.charAt(start + 5) != ':') {
+            return -1;
+        }
+        int hour = parseDigits(s, start, 2);
+        int minute = parseDigits(s, start + 3, 2);
+        int second = parseDigits(s, start + 6, 2);
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+            return -1;
+        }
+        return ((hour * 60L + minute) * 60 + second) * 1000;
+    }
+
+    /**
+     * Parses the english month abbreviation at the given position, 1 for January, -1 if it's invalid
+     */
+    private static int parseMonth(String s, int start) {
+        for (int i = 0; i < MONTHS.length; i++) {
+            if (s.regionMatches(start, MONTHS[i], 0, 3)) {
+                return i + 1;
+            }
+        }
+        return -1;
+    }
+
+    private static int daysInMonth(int year, int month) {
+        if (month == 2) {
+            boolean leap = year % 4 == 0 && (year % 100 != 0 || year % 400 == 0);
+            return leap ? 29 : 28;
+        }
+        return month == 4 || month == 6 || month == 9 || month == 11 ? 30 : 31;
+    }
+
+    /**
+     * The days since 1970-01-01 of a date of the proleptic gregorian calendar
+     */
+    private static long daysFromCivil(int year, int month, int day) {
+        long y = month <= 2 ? year - 1 : year;
+        long era = floorDiv(y, 400);
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
+
+    /**
+     * The year, month and day of the days since 1970-01-01
+     */
+    private static int[] civilFromDays(long days) {
+        days += 719468;
+        long era = floorDiv(days, 146097);
+        long dayOfEra = days - era * 146097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long mp = (5 * dayOfYear + 2) / 153;
+        int day = (int) (dayOfYear - (153 * mp + 2) / 5 + 1);
+        int month = (int) (mp < 10 ? mp + 3 : mp - 9);
+        int year = (int) (yearOfEra + era * 400 + (month <= 2 ? 1 : 0));
+        return new int[]{year, month, day};
+    }
+
+    private static long floorDiv(long x, long y) {
+        long q = x / y;
+        return (x % y != 0 && (x < 0) != (y < 0)) ? q - 1 : q;
+    }
+
+    private static long floorMod(long x, long y) {
+        return x - floorDiv(x, y) * y;
+    }
+
+    private static class CachedDate {
+        private final long second;
+        private final String value;
+
+        CachedDate(long second, String value) {
+            this.second = second;
+            this.value = value;
+        }
+    }
 }
@@ -0,0 +1,165 @@
+package com.alibaba.sdk.android.oss.common.utils;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A map of http headers, the keys are case insensitive.
+ * <p>
+ * The entries are stored under their lowercase key, so a lookup of any case is one hash probe, and
+ * keep the key they were first put with. The iteration follows the insertion order.
+ */
+public class HeaderMap<V> extends AbstractMap<String, V> {
+
+    private final LinkedHashMap<String, HeaderEntry<V>> entries = new LinkedHashMap<String, HeaderEntry<V>>();
+    private Set<Map.Entry<String, V>> entrySet;
+
+    public HeaderMap() {
+    }
+
+    public HeaderMap(Map<String, ? extends V> map) {
+        putAll(map);
+    }
+
+    private static String normalize(Object key) {
+        return key == null ? null : ((String) key).toLowerCase(Locale.US);
+    }
+
+    @Override
+    public V get(Object key) {
+        if (key != null && !(key instanceof String)) {
+            return null;
+        }
+        HeaderEntry<V> entry = entries.get(normalize(key));
+        return entry == null ? null : entry.value;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (key != null && !(key instanceof String)) {
+            return false;
+        }
+        return entries.containsKey(normalize(key));
+    }
+
+    @Override
+    public V put(String key, V value) {
+        String normalized = normalize(key);
+        HeaderEntry<V> entry = entries.get(normalized);
+        if (entry != null) {
+            return entry.setValue(value);
+        }
+        entries.put(normalized, new HeaderEntry<V>(key, value));
+        return null;
+    }
+
+    @Override
+    public V remove(Object key) {
+        if (key != null && !(key instanceof String)) {
+            return null;
+        }
+        HeaderEntry<V> entry = entries.remove(normalize(key));
+        return entry == null ? null : entry.value;
+    }
+
+    @Override
+    public void clear() {
+        entries.clear();
+    }
+
+    @Override
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public Set<Map.Entry<String, V>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new AbstractSet<Map.Entry<String, V>>() {
+                @Override
+                public Iterator<Map.Entry<String, V>> iterator() {
+                    final Iterator<HeaderEntry<V>> iterator = entries.values().iterator();
+                    return new Iterator<Map.Entry<String, V>>() {
+                        @Override
+                        public boolean hasNext() {
+                            return iterator.hasNext();
+                        }
+
+                        @Override
+                        public Map.Entry<String, V> next() {
+                            return iterator.next();
+                        }
+
+                        @Override
+                        public void remove() {
+                            iterator.remove();
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return entries.size();
+                }
+
+                @Override
+                public void clear() {
+                    entries.clear();
+                }
+            };
+        }
+        return entrySet;
+    }
+
+    private static class HeaderEntry<V> implements Map.Entry<String, V> {
+        private final String key;
+        private V value;
+
+        HeaderEntry(String key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public String getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValue() {
+            return value;
+        }
+
+        @Override
+        public V setValue(V value) {
+            V old = this.value;
+            this.value = value;
+            return old;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry<?, ?> other = (Map.Entry<?, ?>) o;
+            return (key == null ? other.getKey() == null : key.equals(other.getKey()))
+                    && (value == null ? other.getValue() == null : value.equals(other.getValue()));
+        }
+
+        @Override
+        public int hashCode() {
+            return (key == null ? 0 : key.hashCode()) ^ (value == null ? 0 : value.hashCode());
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + value;
+        }
+    }
+}
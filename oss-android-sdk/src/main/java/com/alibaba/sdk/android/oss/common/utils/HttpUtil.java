@@ -8,6 +8,7 @@
 package com.alibaba.sdk.android.oss.common.utils;
 
 import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
 import java.net.URLEncoder;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -37,6 +38,21 @@ public class HttpUtil {
         }
     }
 
+    /**
+     * Decode a URL segment, e.g. a key of a listing with the url encoding type.
+     */
+    public static String urlDecode(String value, String encoding) {
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            return URLDecoder.decode(value, encoding);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("failed to decode url!", e);
+        }
+    }
+
     /**
      * Encode request parameters to URL segment.
      */
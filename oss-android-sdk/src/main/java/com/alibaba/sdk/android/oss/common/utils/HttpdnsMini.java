@@ -1,5 +1,7 @@
 package com.alibaba.sdk.android.oss.common.utils;
 
+import android.content.Context;
+
 import com.alibaba.sdk.android.oss.common.OSSLog;
 
 import org.json.JSONArray;
@@ -10,12 +12,25 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.Socket;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
 
 
 /**
@@ -32,12 +47,30 @@ public class HttpdnsMini {
     private static final int RESOLVE_TIMEOUT_IN_SEC = 10;
     private static final int MAX_HOLD_HOST_NUM = 100;
     private static final int EMPTY_RESULT_HOST_TTL = 30;
+    private static final int PROBE_TIMEOUT_IN_MS = 2000;
+    private static final long STATS_MAX_AGE_IN_MS = 5 * 60 * 1000;
+    private static final long DEMOTION_IN_MS = 30 * 1000;
+    private static final int MAX_DEMOTION_FAILURES = 6;
+    private static final String CACHE_KEY = "oss_httpdns_cache";
+    private static final int MAX_STALE_IN_SEC = 10 * 60;
+    private static final int MAX_PERSISTED_STALE_IN_SEC = 24 * 60 * 60;
     private static HttpdnsMini instance;
-    private ConcurrentMap<String, HostObject> hostManager = new ConcurrentHashMap<String, HostObject>();
+    private final Map<String, HostObject> hostManager = new LinkedHashMap<String, HostObject>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, HostObject> eldest) {
+            if (size() <= MAX_HOLD_HOST_NUM) {
+                return false;
+            }
+            removeIpStats(eldest.getValue());
+            return true;
+        }
+    };
+    private ConcurrentMap<String, FutureTask<String>> inflightQueries = new ConcurrentHashMap<String, FutureTask<String>>();
+    private final Metrics metrics = new Metrics();
+    private volatile OSSSharedPreferences persistence;
+    private ConcurrentMap<String, IpStats> ipStats = new ConcurrentHashMap<String, IpStats>();
     private ExecutorService pool = Executors.newFixedThreadPool(MAX_THREAD_NUM);
 
-    public boolean isHttp2Test = false;
-
     private HttpdnsMini() {
     }
 
@@ -53,30 +86,415 @@ public class HttpdnsMini {
     }
 
     public String getIpByHostAsync(String hostName) {
-        if (isHttp2Test){
-            return  "118.178.62.19";
+        List<String> ips = getIpsByHostAsync(hostName);
+        return ips.isEmpty() ? null : ips.get(0);
+    }
+
+    /**
+     * Gets all ips of the host, the fastest healthy ones first, an empty list if it isn't resolved yet
+     */
+    public List<String> getIpsByHostAsync(String hostName) {
+        HostObject host = getHost(hostName);
+        if (host == null || host.shouldRefresh()) {
+            OSSLog.logDebug("[httpdnsmini] - refresh host: " + hostName);
+            query(hostName);
         }
-        HostObject host = hostManager.get(hostName);
+        if (host != null && host.isStillAvailable()) {
+            metrics.hits.incrementAndGet();
+            return sortIps(host.getIps());
+        }
+        metrics.misses.incrementAndGet();
+        return Collections.emptyList();
+    }
+
+    /**
+     * Resolves the host in the calling thread unless a valid result is cached
+     */
+    public String getIpByHost(String hostName) {
+        HostObject host = getHost(hostName);
         if (host == null || host.isExpired()) {
-            OSSLog.logDebug("[httpdnsmini] - refresh host: " + hostName);
-            pool.submit(new QueryHostTask(hostName));
+            try {
+                query(hostName).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                OSSLog.logWarn("[httpdnsmini] - query " + hostName + " failed: " + e.toString());
+            }
+            HostObject queried = getHost(hostName);
+            if (queried != null) {
+                host = queried;
+            }
+        } else if (host.shouldRefresh()) {
+            query(hostName);
         }
-        if (host != null) {
-            return (host.isStillAvailable() ? host.getIp() : null);
+        if (host != null && host.isStillAvailable()) {
+            metrics.hits.incrementAndGet();
+            return sortIps(host.getIps()).get(0);
         }
+        metrics.misses.incrementAndGet();
         return null;
     }
 
+    /**
+     * Persists the resolved hosts in the app-private storage and loads the ones of the last launch.
+     * <p>
+     * A loaded host is used right away even if it's expired, up to a day, while it's queried again in
+     * the background, so the first requests after a cold start don't wait for a query.
+     */
+    public void enablePersistence(Context context) {
+        if (persistence != null) {
+            return;
+        }
+        synchronized (this) {
+            if (persistence != null) {
+                return;
+            }
+            final OSSSharedPreferences sp = OSSSharedPreferences.instance(context.getApplicationContext());
+            persistence = sp;
+            pool.execute(new Runnable() {
+                @Override
+                public void run() {
+                    loadHosts(sp);
+                }
+            });
+        }
+    }
+
+    private void loadHosts(OSSSharedPreferences sp) {
+        String cache = sp.getStringValue(CACHE_KEY);
+        if (OSSUtils.isEmptyString(cache)) {
+            return;
+        }
+        try {
+            JSONObject json = new JSONObject(cache);
+            Iterator<String> hostNames = json.keys();
+            while (hostNames.hasNext()) {
+                String hostName = hostNames.next();
+                JSONObject item = json.getJSONObject(hostName);
+                JSONArray ips = item.getJSONArray("ips");
+                List<String> ipList = new ArrayList<String>(ips.length());
+                for (int i = 0; i < ips.length(); i++) {
+                    ipList.add(ips.getString(i));
+                    if (!ipStats.containsKey(ips.getString(i))) {
+                        ipStats.putIfAbsent(ips.getString(i), new IpStats());
+                    }
+                }
+                HostObject host = new HostObject();
+                host.setHostName(hostName);
+                host.setIps(ipList);
+                host.setTtl(item.getLong("ttl"));
+                host.setQueryTime(item.getLong("queryTime"));
+                host.setMaxStale(MAX_PERSISTED_STALE_IN_SEC);
+                synchronized (hostManager) {
+                    if (host.isStillAvailable() && !hostManager.containsKey(hostName)) {
+                        hostManager.put(hostName, host);
+                    }
+                }
+            }
+            OSSLog.logDebug("[httpdnsmini] - loaded hosts: " + json.length());
+        } catch (Exception e) {
+            OSSLog.logWarn("[httpdnsmini] - load hosts failed: " + e.toString());
+            sp.removeKey(CACHE_KEY);
+        }
+    }
+
+    private void saveHosts() {
+        OSSSharedPreferences sp = persistence;
+        if (sp == null) {
+            return;
+        }
+        try {
+            JSONObject json = new JSONObject();
+            synchronized (hostManager) {
+                for (HostObject host : hostManager.values()) {
+                    JSONObject item = new JSONObject();
+                    item.put("ips", new JSONArray(host.getIps()));
+                    item.put("ttl", host.getTtl());
+                    item.put("queryTime", host.getQueryTime());
+                    json.put(host.getHostName(), item);
+                }
+            }
+            sp.setStringValue(CACHE_KEY, json.toString());
+        } catch (Exception e) {
+            OSSLog.logWarn("[httpdnsmini] - save hosts failed: " + e.toString());
+        }
+    }
+
+    /**
+     * Gets the cache and query metrics
+     */
+    public Metrics getMetrics() {
+        return metrics;
+    }
+
+    private HostObject getHost(String hostName) {
+        synchronized (hostManager) {
+            return hostManager.get(hostName);
+        }
+    }
+
+    private void putHost(String hostName, HostObject host) {
+        synchronized (hostManager) {
+            HostObject old = hostManager.put(hostName, host);
+            if (old != null) {
+                removeIpStats(old);
+            }
+        }
+    }
+
+    // called with the lock of the host manager
+    private void removeIpStats(HostObject host) {
+        for (String ip : host.getIps()) {
+            boolean used = false;
+            for (HostObject other : hostManager.values()) {
+                if (other != host && other.getIps().contains(ip)) {
+                    used = true;
+                    break;
+                }
+            }
+            if (!used) {
+                ipStats.remove(ip);
+            }
+        }
+    }
+
+    /**
+     * Starts a query of the host unless one is running already
+     */
+    private Future<String> query(final String hostName) {
+        FutureTask<String> running = inflightQueries.get(hostName);
+        if (running != null) {
+            return running;
+        }
+        final long start = System.currentTimeMillis();
+        FutureTask<String> task = new FutureTask<String>(new QueryHostTask(hostName)) {
+            @Override
+            protected void done() {
+                inflightQueries.remove(hostName, this);
+                boolean resolved;
+                try {
+                    resolved = get() != null;
+                } catch (Exception e) {
+                    resolved = false;
+                }
+                metrics.onQueryDone(System.currentTimeMillis() - start, resolved);
+            }
+        };
+        running = inflightQueries.putIfAbsent(hostName, task);
+        if (running != null) {
+            return running;
+        }
+        metrics.queries.incrementAndGet();
+        pool.execute(task);
+        return task;
+    }
+
+    /**
+     * Records a successful connection to an ip returned by httpdns
+     *
+     * @param ip         the ip
+     * @param port       the port connected to
+     * @param rttInMills the connect time
+     */
+    public void reportConnectSuccess(String ip, int port, long rttInMills) {
+        IpStats stats = ipStats.get(ip);
+        if (stats != null) {
+            stats.onSuccess(port, rttInMills);
+        }
+    }
+
+    /**
+     * Records a failed connection to an ip returned by httpdns, the ip is demoted for a while
+     */
+    public void reportConnectFailure(String ip, int port) {
+        IpStats stats = ipStats.get(ip);
+        if (stats != null) {
+            stats.onFailure(port);
+        }
+    }
+
+    private List<String> sortIps(List<String> ips) {
+        if (ips.size() < 2) {
+            return ips;
+        }
+        final long now = System.currentTimeMillis();
+        List<String> sorted = new ArrayList<String>(ips);
+        Collections.sort(sorted, new Comparator<String>() {
+            @Override
+            public int compare(String lhs, String rhs) {
+                IpStats left = ipStats.get(lhs);
+                IpStats right = ipStats.get(rhs);
+                boolean leftDemoted = left != null && left.isDemoted(now);
+                boolean rightDemoted = right != null && right.isDemoted(now);
+                if (leftDemoted != rightDemoted) {
+                    return leftDemoted ? 1 : -1;
+                }
+                long leftRtt = left == null ? Long.MAX_VALUE : left.getRtt();
+                long rightRtt = right == null ? Long.MAX_VALUE : right.getRtt();
+                return leftRtt < rightRtt ? -1 : (leftRtt == rightRtt ? 0 : 1);
+            }
+        });
+        return sorted;
+    }
+
+    /**
+     * Connects to the two best ips of a host at the same time, off the request path, so the connect
+     * times order them before the clients do. Only the ips whose stats are stale are probed, on the
+     * port the clients connected to the host on, nothing is probed before a client connected once.
+     */
+    private void raceIps(List<String> ips) {
+        int port = 0;
+        for (String ip : ips) {
+            IpStats stats = ipStats.get(ip);
+            if (stats != null && stats.getPort() > 0) {
+                port = stats.getPort();
+                break;
+            }
+        }
+        if (port == 0) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        List<String> sorted = sortIps(ips);
+        for (int i = 0; i < Math.min(2, sorted.size()); i++) {
+            final String ip = sorted.get(i);
+            IpStats stats = ipStats.get(ip);
+            if (stats != null && !stats.isStale(now)) {
+                continue;
+            }
+            final int probePort = port;
+            pool.submit(new Runnable() {
+                @Override
+                public void run() {
+                    probe(ip, probePort);
+                }
+            });
+        }
+    }
+
+    private void probe(String ip, int port) {
+        Socket socket = new Socket();
+        long start = System.currentTimeMillis();
+        try {
+            socket.connect(new InetSocketAddress(ip, port), PROBE_TIMEOUT_IN_MS);
+            reportConnectSuccess(ip, port, System.currentTimeMillis() - start);
+        } catch (IOException e) {
+            OSSLog.logDebug("[httpdnsmini] - probe " + ip + ":" + port + " failed: " + e.toString());
+            reportConnectFailure(ip, port);
+        } finally {
+            try {
+                socket.close();
+            } catch (IOException e) {
+            }
+        }
+    }
+
+    /**
+     * The connect statistics of an ip, the rtt is smoothed over the connections. They come from the
+     * real connections of the clients and the probes, an ip without any sorts after the measured ones.
+     */
+    static class IpStats {
+        private long rtt = Long.MAX_VALUE;
+        private int failures;
+        private long lastFailureTime;
+        private long lastUpdateTime;
+        private int port;
+
+        synchronized void onSuccess(int port, long rttInMills) {
+            rtt = rtt == Long.MAX_VALUE ? rttInMills : (rtt * 7 + rttInMills) / 8;
+            failures = 0;
+            this.port = port;
+            lastUpdateTime = System.currentTimeMillis();
+        }
+
+        synchronized void onFailure(int port) {
+            failures = Math.min(failures + 1, MAX_DEMOTION_FAILURES);
+            lastFailureTime = System.currentTimeMillis();
+            this.port = port;
+            lastUpdateTime = lastFailureTime;
+        }
+
+        synchronized int getPort() {
+            return port;
+        }
+
+        synchronized boolean isStale(long now) {
+            return now - lastUpdateTime > STATS_MAX_AGE_IN_MS;
+        }
+
+        synchronized long getRtt() {
+            return rtt;
+        }
+
+        synchronized boolean isDemoted(long now) {
+            return failures > 0 && now - lastFailureTime < failures * DEMOTION_IN_MS;
+        }
+    }
+
+    /**
+     * The cache hits and misses of the lookups and the count and latency of the httpdns queries
+     */
+    public static class Metrics {
+        private final AtomicLong hits = new AtomicLong();
+        private final AtomicLong misses = new AtomicLong();
+        private final AtomicLong queries = new AtomicLong();
+        private final AtomicLong failedQueries = new AtomicLong();
+        private final AtomicLong queryTime = new AtomicLong();
+        private final AtomicLong finishedQueries = new AtomicLong();
+
+        void onQueryDone(long timeInMills, boolean resolved) {
+            queryTime.addAndGet(timeInMills);
+            finishedQueries.incrementAndGet();
+            if (!resolved) {
+                failedQueries.incrementAndGet();
+            }
+        }
+
+        /**
+         * Gets the count of lookups answered from the cache, including the stale answers
+         */
+        public long getHits() {
+            return hits.get();
+        }
+
+        /**
+         * Gets the count of lookups without a usable cached result
+         */
+        public long getMisses() {
+            return misses.get();
+        }
+
+        /**
+         * Gets the count of started queries, concurrent lookups of a host share one query
+         */
+        public long getQueries() {
+            return queries.get();
+        }
+
+        public long getFailedQueries() {
+            return failedQueries.get();
+        }
+
+        /**
+         * Gets the average time of the finished queries in milliseconds
+         */
+        public long getAverageQueryTime() {
+            long finished = finishedQueries.get();
+            return finished == 0 ? 0 : queryTime.get() / finished;
+        }
+    }
+
     class HostObject {
 
         private String hostName;
-        private String ip;
+        private List<String> ips;
         private long ttl;
         private long queryTime;
+        private long maxStale = MAX_STALE_IN_SEC;
 
         @Override
         public String toString() {
-            return "[hostName=" + getHostName() + ", ip=" + ip + ", ttl=" + getTtl() + ", queryTime="
+            return "[hostName=" + getHostName() + ", ips=" + ips + ", ttl=" + getTtl() + ", queryTime="
                     + queryTime + "]";
         }
 
@@ -84,17 +502,26 @@ public class HttpdnsMini {
             return getQueryTime() + ttl < System.currentTimeMillis() / 1000;
         }
 
-        // 一个域名解析结果过期后，异步接口仍然可以返回这个结果，但最多可以容忍过期10分钟
+        // 在ttl的最后四分之一内提前刷新，过期前就拿到新的结果
+        public boolean shouldRefresh() {
+            return getQueryTime() + ttl * 3 / 4 < System.currentTimeMillis() / 1000;
+        }
+
+        // 一个域名解析结果过期后，异步接口仍然可以返回这个结果，但最多可以容忍过期10分钟，上次启动保存的结果可以容忍一天
         public boolean isStillAvailable() {
-            return getQueryTime() + ttl + 10 * 60 > System.currentTimeMillis() / 1000;
+            return getQueryTime() + ttl + maxStale > System.currentTimeMillis() / 1000;
         }
 
-        public String getIp() {
-            return ip;
+        public void setMaxStale(long maxStale) {
+            this.maxStale = maxStale;
         }
 
-        public void setIp(String ip) {
-            this.ip = ip;
+        public List<String> getIps() {
+            return ips;
+        }
+
+        public void setIps(List<String> ips) {
+            this.ips = ips;
         }
 
         public String getHostName() {
@@ -161,17 +588,26 @@ public class HttpdnsMini {
                             // 避免一直请求同一个ip冲击sever
                             ttl = EMPTY_RESULT_HOST_TTL;
                         }
+                        List<String> ipList = new ArrayList<String>(ips.length());
+                        for (int i = 0; i < ips.length(); i++) {
+                            String ip = ips.getString(i);
+                            ipList.add(ip);
+                            if (!ipStats.containsKey(ip)) {
+                                ipStats.putIfAbsent(ip, new IpStats());
+                            }
+                        }
                         HostObject hostObject = new HostObject();
-                        String ip = (ips == null) ? null : ips.getString(0);
                         hostObject.setHostName(host);
                         hostObject.setTtl(ttl);
-                        hostObject.setIp(ip);
+                        hostObject.setIps(ipList);
                         hostObject.setQueryTime(System.currentTimeMillis() / 1000);
                         OSSLog.logDebug("[httpdnsmini] - resolve result:" + hostObject.toString());
-                        if (hostManager.size() < MAX_HOLD_HOST_NUM) {
-                            hostManager.put(hostName, hostObject);
+                        putHost(hostName, hostObject);
+                        saveHosts();
+                        if (ipList.size() > 1) {
+                            raceIps(ipList);
                         }
-                        return ip;
+                        return ipList.get(0);
                     }
                 }
             } catch (Exception e) {
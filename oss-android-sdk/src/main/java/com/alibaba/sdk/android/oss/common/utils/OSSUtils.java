@@ -43,11 +43,13 @@ import java.net.Inet4Address;
 import java.net.Inet6Address;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
-import java.util.TreeMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -91,6 +93,30 @@ import static com.alibaba.sdk.android.oss.common.RequestParameters.X_OSS_SYMLINK
 public class OSSUtils {
 
     private static final String NEW_LINE = "\n";
+    private static final int MAX_CANONICAL_BUFFER_SIZE = 4 * 1024;
+    // orders "name:value" lines by their names
+    private static final Comparator<String> HEADER_NAME_ORDER = new Comparator<String>() {
+        @Override
+        public int compare(String lhs, String rhs) {
+            int lhsEnd = lhs.indexOf(':');
+            int rhsEnd = rhs.indexOf(':');
+            int length = Math.min(lhsEnd, rhsEnd);
+            for (int i = 0; i < length; i++) {
+                char l = lhs.charAt(i);
+                char r = rhs.charAt(i);
+                if (l != r) {
+                    return l - r;
+                }
+            }
+            return lhsEnd - rhsEnd;
+        }
+    };
+    private static final ThreadLocal<StringBuilder> CANONICAL_BUFFER = new ThreadLocal<StringBuilder>() {
+        @Override
+        protected StringBuilder initialValue() {
+            return new StringBuilder(512);
+        }
+    };
 
     private static final List<String> SIGNED_PARAMTERS = Arrays.asList(new String[]{
             SUBRESOURCE_BUCKETINFO, SUBRESOURCE_ACL, SUBRESOURCE_UPLOADS, SUBRESOURCE_LOCATION,
@@ -324,73 +350,87 @@ public class OSSUtils {
     }
 
     public static String buildCanonicalString(RequestMessage request) {
+        StringBuilder canonicalString = CANONICAL_BUFFER.get();
+        canonicalString.setLength(0);
+        canonicalString.append(request.getMethod().toString()).append(NEW_LINE);
 
-        StringBuilder canonicalString = new StringBuilder();
-        canonicalString.append(request.getMethod().toString() + NEW_LINE);
+        String contentType = "";
+        String contentMd5 = "";
+        String date = null;
+        List<String> ossHeaders = null;
 
         Map<String, String> headers = request.getHeaders();
-        TreeMap<String, String> headersToSign = new TreeMap<String, String>();
-
         if (headers != null) {
             for (Map.Entry<String, String> header : headers.entrySet()) {
-                if (header.getKey() == null) {
+                String key = header.getKey();
+                if (key == null) {
                     continue;
                 }
 
-                String lowerKey = header.getKey().toLowerCase();
-                if (lowerKey.equals(HttpHeaders.CONTENT_TYPE.toLowerCase()) ||
-                        lowerKey.equals(HttpHeaders.CONTENT_MD5.toLowerCase()) ||
-                        lowerKey.equals(HttpHeaders.DATE.toLowerCase()) ||
-                        lowerKey.startsWith(OSSHeaders.OSS_PREFIX)) {
-                    headersToSign.put(lowerKey, header.getValue().trim());
+                if (key.equalsIgnoreCase(HttpHeaders.CONTENT_TYPE)) {
+                    contentType = header.getValue().trim();
+                } else if (key.equalsIgnoreCase(HttpHeaders.CONTENT_MD5)) {
+                    contentMd5 = header.getValue().trim();
+                } else if (key.equalsIgnoreCase(HttpHeaders.DATE)) {
+                    date = header.getValue().trim();
+                } else if (key.regionMatches(true, 0, OSSHeaders.OSS_PREFIX, 0, OSSHeaders.OSS_PREFIX.length())) {
+                    if (ossHeaders == null) {
+                        ossHeaders = new ArrayList<String>();
+                    }
+                    ossHeaders.add(key.toLowerCase() + ':' + header.getValue().trim());
                 }
             }
         }
 
-        if (!headersToSign.containsKey(HttpHeaders.CONTENT_TYPE.toLowerCase())) {
-            headersToSign.put(HttpHeaders.CONTENT_TYPE.toLowerCase(), "");
-        }
-        if (!headersToSign.containsKey(HttpHeaders.CONTENT_MD5.toLowerCase())) {
-            headersToSign.put(HttpHeaders.CONTENT_MD5.toLowerCase(), "");
+        // the headers are in the order of their lowercase names: content-md5, content-type, date, x-oss-*
+        canonicalString.append(contentMd5).append(NEW_LINE);
+        canonicalString.append(contentType).append(NEW_LINE);
+        if (date != null) {
+            canonicalString.append(date).append(NEW_LINE);
         }
-
-        // Append all headers to sign to canonical string
-        for (Map.Entry<String, String> entry : headersToSign.entrySet()) {
-            String key = entry.getKey();
-            Object value = entry.getValue();
-
-            if (key.startsWith(OSSHeaders.OSS_PREFIX)) {
-                canonicalString.append(key).append(':').append(value);
-            } else {
-                canonicalString.append(value);
+        if (ossHeaders != null) {
+            Collections.sort(ossHeaders, HEADER_NAME_ORDER);
+            for (String ossHeader : ossHeaders) {
+                canonicalString.append(ossHeader).append(NEW_LINE);
             }
-
-            canonicalString.append(NEW_LINE);
         }
 
         // Append canonical resource to canonical string
-        canonicalString.append(buildCanonicalizedResource(request.getBucketName(), request.getObjectKey(), request.getParameters()));
+        appendCanonicalizedResource(canonicalString, request.getBucketName(), request.getObjectKey(), request.getParameters());
 
-        return canonicalString.toString();
+        String result = canonicalString.toString();
+        if (canonicalString.capacity() > MAX_CANONICAL_BUFFER_SIZE) {
+            CANONICAL_BUFFER.remove();
+        }
+        return result;
     }
 
     public static String buildCanonicalizedResource(String bucketName, String objectKey, Map<String, String> parameters) {
-        String resourcePath;
+        StringBuilder builder = new StringBuilder();
+        appendCanonicalizedResource(builder, bucketName, objectKey, parameters);
+        return builder.toString();
+    }
+
+    private static void appendCanonicalizedResource(StringBuilder builder, String bucketName, String objectKey, Map<String, String> parameters) {
         if (bucketName == null && objectKey == null) {
-            resourcePath = "/";
+            builder.append('/');
         } else if (objectKey == null) {
-            resourcePath = "/" + bucketName + "/";
+            builder.append('/').append(bucketName).append('/');
         } else {
-            resourcePath = "/" + bucketName + "/" + objectKey;
+            builder.append('/').append(bucketName).append('/').append(objectKey);
         }
-
-        return buildCanonicalizedResource(resourcePath, parameters);
+        appendCanonicalizedParameters(builder, parameters);
     }
 
     public static String buildCanonicalizedResource(String resourcePath, Map<String, String> parameters) {
 
         StringBuilder builder = new StringBuilder();
         builder.append(resourcePath);
+        appendCanonicalizedParameters(builder, parameters);
+        return builder.toString();
+    }
+
+    private static void appendCanonicalizedParameters(StringBuilder builder, Map<String, String> parameters) {
 
         if (parameters != null) {
             String[] parameterNames = parameters.keySet().toArray(
@@ -413,8 +453,6 @@ public class OSSUtils {
                 separater = '&';
             }
         }
-
-        return builder.toString();
     }
 
     /**
@@ -1,5 +1,6 @@
 package com.alibaba.sdk.android.oss.internal;
 
+import com.alibaba.sdk.android.oss.ClientConfiguration;
 import com.alibaba.sdk.android.oss.ClientException;
 import com.alibaba.sdk.android.oss.ServiceException;
 import com.alibaba.sdk.android.oss.TaskCancelException;
@@ -15,6 +16,7 @@ import com.alibaba.sdk.android.oss.model.PartETag;
 import com.alibaba.sdk.android.oss.model.UploadPartRequest;
 import com.alibaba.sdk.android.oss.model.UploadPartResult;
 import com.alibaba.sdk.android.oss.network.ExecutionContext;
+import com.alibaba.sdk.android.oss.network.ProgressDispatcher;
 
 import java.io.File;
 import java.io.IOException;
@@ -28,6 +30,7 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Created by jingdan on 2017/10/30.
@@ -61,11 +64,14 @@ public abstract class BaseMultipartUploadTask<Request extends MultipartUploadReq
     protected long mFileLength;
     protected int mPartExceptionCount;
     protected int mRunPartTaskCount;
-    protected long mUploadedLength = 0;
+    protected volatile long mUploadedLength = 0;
+    // the bytes sent of the parts in flight
+    protected AtomicLong mInFlightLength = new AtomicLong();
     protected boolean mCheckCRC64 = false;
     protected Request mRequest;
     protected OSSCompletedCallback<Request, Result> mCompletedCallback;
     protected OSSProgressCallback<Request> mProgressCallback;
+    protected ProgressDispatcher<Request> mProgressDispatcher;
     protected int[] mPartAttr = new int[2];
     protected String mUploadFilePath;
 
@@ -78,6 +84,11 @@ public abstract class BaseMultipartUploadTask<Request extends MultipartUploadReq
         mCompletedCallback = completedCallback;
         mContext = context;
         mCheckCRC64 = (request.getCRC64() == OSSRequest.CRC64Config.YES);
+        ClientConfiguration conf = operation.getConf();
+        mProgressDispatcher = new ProgressDispatcher<Request>(request, mProgressCallback,
+                conf != null ? conf.getProgressInterval() : 0,
+                conf != null ? conf.getProgressByteStep() : 0,
+                conf != null ? conf.getProgressCallbackExecutor() : null);
     }
 
     /**
@@ -180,6 +191,7 @@ public abstract class BaseMultipartUploadTask<Request extends MultipartUploadReq
     protected void uploadPart(int readIndex, int byteCount, int partNumber) {
 
         RandomAccessFile raf = null;
+        PartProgress partProgress = new PartProgress();
         try {
 
             if (mContext.getCancellationHandler().isCancelled()) {
@@ -203,6 +215,10 @@ public abstract class BaseMultipartUploadTask<Request extends MultipartUploadReq
             uploadPart.setPartContent(partContent);
             uploadPart.setMd5Digest(BinaryUtil.calculateBase64Md5(partContent));
             uploadPart.setCRC64(mRequest.getCRC64());
+            uploadPart.setProgressCallback(partProgress);
+            if (mRequest.getBandwidthLimiter() != null) {
+                mRequest.getBandwidthLimiter().acquire(byteCount);
+            }
             UploadPartResult uploadPartResult = mApiOperation.syncUploadPart(uploadPart);
             //check isComplete
             synchronized (mLock) {
@@ -213,6 +229,7 @@ public abstract class BaseMultipartUploadTask<Request extends MultipartUploadReq
                 }
 
                 mPartETags.add(partETag);
+                partProgress.finish();
                 mUploadedLength += byteCount;
 
                 uploadPartFinish(partETag);
@@ -233,6 +250,7 @@ public abstract class BaseMultipartUploadTask<Request extends MultipartUploadReq
             }
 
         } catch (Exception e) {
+            partProgress.finish();
             processException(e);
         } finally {
             try {
@@ -354,15 +372,43 @@ public abstract class BaseMultipartUploadTask<Request extends MultipartUploadReq
     }
 
     /**
-     * progress callback
+     * progress callback, the bytes sent of the parts in flight are added to currentSize
      *
      * @param request
      * @param currentSize
      * @param totalSize
      */
     protected void onProgressCallback(Request request, long currentSize, long totalSize) {
-        if (mProgressCallback != null) {
-            mProgressCallback.onProgress(request, currentSize, totalSize);
+        mProgressDispatcher.update(currentSize + mInFlightLength.get(), totalSize);
+    }
+
+    /**
+     * Counts the bytes sent of one part into the task's progress, until the part is finished
+     */
+    protected class PartProgress implements OSSProgressCallback<UploadPartRequest> {
+
+        private long sentLength;
+        private boolean finished;
+
+        @Override
+        public synchronized void onProgress(UploadPartRequest request, long currentSize, long totalSize) {
+            if (finished) {
+                return;
+            }
+            // a retried part starts over from 0
+            long inFlight = mInFlightLength.addAndGet(currentSize - sentLength);
+            sentLength = currentSize;
+            mProgressDispatcher.update(mUploadedLength + inFlight, mFileLength);
+        }
+
+        /**
+         * Takes the part's bytes out of the in flight ones, the caller counts a completed part
+         */
+        public synchronized void finish() {
+            if (!finished) {
+                finished = true;
+                mInFlightLength.addAndGet(-sentLength);
+            }
         }
     }
 
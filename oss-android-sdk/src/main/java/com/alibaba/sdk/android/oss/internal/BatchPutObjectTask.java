@@ -0,0 +1,200 @@
+package com.alibaba.sdk.android.oss.internal;
+
+import com.alibaba.sdk.android.oss.ClientException;
+import com.alibaba.sdk.android.oss.ServiceException;
+import com.alibaba.sdk.android.oss.TaskCancelException;
+import com.alibaba.sdk.android.oss.callback.OSSCompletedCallback;
+import com.alibaba.sdk.android.oss.callback.OSSProgressCallback;
+import com.alibaba.sdk.android.oss.common.OSSLog;
+import com.alibaba.sdk.android.oss.model.BatchPutObjectRequest;
+import com.alibaba.sdk.android.oss.model.BatchPutObjectResult;
+import com.alibaba.sdk.android.oss.model.PutObjectRequest;
+import com.alibaba.sdk.android.oss.model.PutObjectResult;
+import com.alibaba.sdk.android.oss.network.ExecutionContext;
+
+import java.io.File;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Uploads the objects of a batch by priority on a pool of the batch's concurrency.
+ * <p>
+ * Every object is uploaded by PutObject in the pool's thread, so the batch is not limited by the
+ * shared api threads, and all uploads share the client's connections.
+ */
+public class BatchPutObjectTask implements Callable<BatchPutObjectResult> {
+
+    // marks an item whose upload is over in its reported length
+    private static final long FINISHED = -1;
+
+    private InternalRequestOperation mApiOperation;
+    private BatchPutObjectRequest mRequest;
+    private OSSCompletedCallback<BatchPutObjectRequest, BatchPutObjectResult> mCompletedCallback;
+    private ExecutionContext mContext;
+
+    private BatchPutObjectResult mResult = new BatchPutObjectResult();
+    private AtomicLong mUploadedLength = new AtomicLong();
+    private long mTotalLength;
+
+    public BatchPutObjectTask(InternalRequestOperation operation, BatchPutObjectRequest request,
+                              OSSCompletedCallback<BatchPutObjectRequest, BatchPutObjectResult> completedCallback,
+                              ExecutionContext context) {
+        mApiOperation = operation;
+        mRequest = request;
+        mCompletedCallback = completedCallback;
+        mContext = context;
+    }
+
+    @Override
+    public BatchPutObjectResult call() throws Exception {
+        List<BatchPutObjectRequest.Item> items = mRequest.getItems();
+        final PriorityBlockingQueue<BatchPutObjectRequest.Item> queue =
+                new PriorityBlockingQueue<BatchPutObjectRequest.Item>(Math.max(1, items.size()),
+                        new Comparator<BatchPutObjectRequest.Item>() {
+                            @Override
+                            public int compare(BatchPutObjectRequest.Item lhs, BatchPutObjectRequest.Item rhs) {
+                                if (lhs.getPriority() != rhs.getPriority()) {
+                                    return lhs.getPriority() > rhs.getPriority() ? -1 : 1;
+                                }
+                                return lhs.getSequence() < rhs.getSequence() ? -1
+                                        : (lhs.getSequence() > rhs.getSequence() ? 1 : 0);
+                            }
+                        });
+        for (BatchPutObjectRequest.Item item : items) {
+            mTotalLength += contentLength(item.getRequest());
+            queue.add(item);
+        }
+
+        int concurrency = Math.min(mRequest.getConcurrency(), Math.max(1, items.size()));
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency, new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                return new Thread(runnable, "oss-android-batch-upload-thread");
+            }
+        });
+        final CountDownLatch latch = new CountDownLatch(concurrency);
+        try {
+            for (int i = 0; i < concurrency; i++) {
+                executor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            BatchPutObjectRequest.Item item;
+                            while ((item = queue.poll()) != null) {
+                                uploadItem(item.getRequest());
+                            }
+                        } finally {
+                            latch.countDown();
+                        }
+                    }
+                });
+            }
+            latch.await();
+        } finally {
+            executor.shutdown();
+        }
+
+        if (mContext.getCancellationHandler().isCancelled()) {
+            TaskCancelException e = new TaskCancelException("batch upload cancel");
+            ClientException clientException = new ClientException(e.getMessage(), e, true);
+            if (mCompletedCallback != null) {
+                mCompletedCallback.onFailure(mRequest, clientException, null);
+            }
+            throw clientException;
+        }
+
+        mResult.setStatusCode(200);
+        if (mCompletedCallback != null) {
+            mCompletedCallback.onSuccess(mRequest, mResult);
+        }
+        return mResult;
+    }
+
+    private void uploadItem(final PutObjectRequest request) {
+        if (mContext.getCancellationHandler().isCancelled()) {
+            TaskCancelException e = new TaskCancelException("batch upload cancel");
+            onItemFailure(request, new ClientException(e.getMessage(), e, true), null);
+            return;
+        }
+
+        final OSSProgressCallback<PutObjectRequest> itemProgressCallback = request.getProgressCallback();
+        // the progress may arrive on another thread, even after the upload is over
+        final AtomicLong reported = new AtomicLong();
+        request.setProgressCallback(new OSSProgressCallback<PutObjectRequest>() {
+            @Override
+            public void onProgress(PutObjectRequest putRequest, long currentSize, long totalSize) {
+                long last;
+                do {
+                    last = reported.get();
+                    if (last == FINISHED) {
+                        return;
+                    }
+                } while (!reported.compareAndSet(last, currentSize));
+                onBatchProgress(mUploadedLength.addAndGet(currentSize - last));
+                if (itemProgressCallback != null) {
+                    itemProgressCallback.onProgress(putRequest, currentSize, totalSize);
+                }
+            }
+        });
+
+        ExecutionContext<PutObjectRequest, PutObjectResult> executionContext =
+                new ExecutionContext(mApiOperation.getInnerClient(), request, mApiOperation.getApplicationContext());
+        mContext.getCancellationHandler().link(executionContext.getCancellationHandler());
+        boolean succeeded = false;
+        try {
+            PutObjectResult result = mApiOperation.syncPutObjectInCurrentThread(request, executionContext);
+            succeeded = true;
+            mResult.addSucceeded(request, result);
+            if (mRequest.getItemCompletedCallback() != null) {
+                mRequest.getItemCompletedCallback().onSuccess(request, result);
+            }
+        } catch (ClientException e) {
+            onItemFailure(request, e, null);
+        } catch (ServiceException e) {
+            onItemFailure(request, null, e);
+        } catch (RuntimeException e) {
+            // e.g. an invalid key, the worker goes on with the next item
+            if (succeeded) {
+                OSSLog.logThrowable2Local(e);
+            } else {
+                onItemFailure(request, new ClientException(e), null);
+            }
+        } finally {
+            mContext.getCancellationHandler().unlink(executionContext.getCancellationHandler());
+            // a retried or failed upload must not leave its bytes in the batch progress
+            long uploaded = succeeded ? contentLength(request) : 0;
+            onBatchProgress(mUploadedLength.addAndGet(uploaded - reported.getAndSet(FINISHED)));
+            request.setProgressCallback(itemProgressCallback);
+        }
+    }
+
+    private void onItemFailure(PutObjectRequest request, ClientException clientException, ServiceException serviceException) {
+        OSSLog.logError("[batch upload] - " + request.getObjectKey() + " failed");
+        mResult.addFailed(request, clientException, serviceException);
+        if (mRequest.getItemCompletedCallback() != null) {
+            mRequest.getItemCompletedCallback().onFailure(request, clientException, serviceException);
+        }
+    }
+
+    private void onBatchProgress(long uploadedLength) {
+        if (mRequest.getProgressCallback() != null) {
+            mRequest.getProgressCallback().onProgress(mRequest, uploadedLength, mTotalLength);
+        }
+    }
+
+    private static long contentLength(PutObjectRequest request) {
+        if (request.getUploadData() != null) {
+            return request.getUploadData().length;
+        } else if (request.getUploadFilePath() != null) {
+            return new File(request.getUploadFilePath()).length();
+        }
+        return 0;
+    }
+}
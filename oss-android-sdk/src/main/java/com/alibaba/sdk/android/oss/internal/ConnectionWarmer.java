@@ -0,0 +1,147 @@
+package com.alibaba.sdk.android.oss.internal;
+
+import android.content.BroadcastReceiver;
+import android.content.Context;
+import android.content.Intent;
+import android.content.IntentFilter;
+import android.net.ConnectivityManager;
+
+import com.alibaba.sdk.android.oss.common.HttpMethod;
+import com.alibaba.sdk.android.oss.common.OSSLog;
+import com.alibaba.sdk.android.oss.common.utils.HttpdnsMini;
+import com.alibaba.sdk.android.oss.common.utils.OSSUtils;
+
+import java.lang.ref.WeakReference;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+
+/**
+ * Opens connections to the hosts of some buckets before they are used.
+ * <p>
+ * For every bucket the host is resolved through httpdns when it is enabled and an anonymous HEAD
+ * request is sent to the bucket, its answer doesn't matter: the connection stays in the pool of the
+ * client until the keep alive duration elapses, so the next request to the bucket reuses it. After
+ * a network change the idle connections are dead, they are evicted and opened again.
+ * <p>
+ * The network receiver is registered on the application context, so it only keeps a weak reference
+ * to the warmer and unregisters itself once the client is gone.
+ */
+public class ConnectionWarmer {
+
+    private final InternalRequestOperation operation;
+    private final ExecutorService executor;
+    private volatile List<String> bucketNames = new ArrayList<String>();
+    private NetworkReceiver networkReceiver;
+
+    public ConnectionWarmer(InternalRequestOperation operation, ExecutorService executor) {
+        this.operation = operation;
+        this.executor = executor;
+    }
+
+    /**
+     * Warms the buckets in the background
+     *
+     * @param bucketNames           the buckets to warm, they replace the ones of a previous call
+     * @param rewarmOnNetworkChange whether to warm them again after the network changed
+     */
+    public synchronized void warmUp(List<String> bucketNames, boolean rewarmOnNetworkChange) {
+        this.bucketNames = new ArrayList<String>(bucketNames);
+        if (rewarmOnNetworkChange && !bucketNames.isEmpty()) {
+            registerNetworkReceiver();
+        } else {
+            unregisterNetworkReceiver();
+        }
+        submitAll();
+    }
+
+    private void submitAll() {
+        for (final String bucketName : bucketNames) {
+            executor.submit(new Runnable() {
+                @Override
+                public void run() {
+                    warmUp(bucketName);
+                }
+            });
+        }
+    }
+
+    private void warmUp(String bucketName) {
+        URI endpoint = operation.getEndpoint();
+        String host = endpoint.getHost();
+        if (operation.isHttpDnsAvailable() && OSSUtils.isOssOriginHost(host)) {
+            HttpdnsMini.getInstance().getIpByHost(bucketName + "." + host);
+        }
+
+        RequestMessage message = new RequestMessage();
+        message.setEndpoint(endpoint);
+        message.setBucketName(bucketName);
+        message.setMethod(HttpMethod.HEAD);
+        Response response = null;
+        try {
+            Request.Builder builder = new Request.Builder().url(message.buildCanonicalURL()).head();
+            for (Map.Entry<String, String> header : message.getHeaders().entrySet()) {
+                builder.addHeader(header.getKey(), header.getValue());
+            }
+            response = operation.getInnerClient().newCall(builder.build()).execute();
+            OSSLog.logDebug("[warmUp] - " + bucketName + " " + response.code());
+        } catch (Exception e) {
+            OSSLog.logWarn("[warmUp] - " + bucketName + " " + e.toString());
+        } finally {
+            if (response != null) {
+                response.close();
+            }
+        }
+    }
+
+    private void onNetworkChanged() {
+        OkHttpClient client = operation.getInnerClient();
+        client.connectionPool().evictAll();
+        submitAll();
+    }
+
+    private void registerNetworkReceiver() {
+        Context context = operation.getApplicationContext();
+        if (networkReceiver != null || context == null) {
+            return;
+        }
+        networkReceiver = new NetworkReceiver(this);
+        context.registerReceiver(networkReceiver, new IntentFilter(ConnectivityManager.CONNECTIVITY_ACTION));
+    }
+
+    private void unregisterNetworkReceiver() {
+        if (networkReceiver != null) {
+            operation.getApplicationContext().unregisterReceiver(networkReceiver);
+            networkReceiver = null;
+        }
+    }
+
+    private static class NetworkReceiver extends BroadcastReceiver {
+
+        private final WeakReference<ConnectionWarmer> warmer;
+
+        NetworkReceiver(ConnectionWarmer warmer) {
+            this.warmer = new WeakReference<ConnectionWarmer>(warmer);
+        }
+
+        @Override
+        public void onReceive(Context context, Intent intent) {
+            ConnectionWarmer current = warmer.get();
+            if (current == null) {
+                context.unregisterReceiver(this);
+                return;
+            }
+            if (isInitialStickyBroadcast()
+                    || intent.getBooleanExtra(ConnectivityManager.EXTRA_NO_CONNECTIVITY, false)) {
+                return;
+            }
+            current.onNetworkChanged();
+        }
+    }
+}
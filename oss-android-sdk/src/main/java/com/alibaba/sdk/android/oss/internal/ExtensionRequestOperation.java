@@ -10,12 +10,19 @@ import com.alibaba.sdk.android.oss.common.OSSLog;
 import com.alibaba.sdk.android.oss.common.utils.BinaryUtil;
 import com.alibaba.sdk.android.oss.common.utils.OSSUtils;
 import com.alibaba.sdk.android.oss.model.AbortMultipartUploadRequest;
+import com.alibaba.sdk.android.oss.model.BatchPutObjectRequest;
+import com.alibaba.sdk.android.oss.model.BatchPutObjectResult;
 import com.alibaba.sdk.android.oss.model.CompleteMultipartUploadResult;
 import com.alibaba.sdk.android.oss.model.HeadObjectRequest;
+import com.alibaba.sdk.android.oss.model.ListObjectsRequest;
 import com.alibaba.sdk.android.oss.model.MultipartUploadRequest;
 import com.alibaba.sdk.android.oss.model.OSSRequest;
+import com.alibaba.sdk.android.oss.model.ParallelListObjectsRequest;
+import com.alibaba.sdk.android.oss.model.ParallelListObjectsResult;
 import com.alibaba.sdk.android.oss.model.ResumableUploadRequest;
 import com.alibaba.sdk.android.oss.model.ResumableUploadResult;
+import com.alibaba.sdk.android.oss.model.StreamUploadRequest;
+import com.alibaba.sdk.android.oss.model.StreamUploadResult;
 import com.alibaba.sdk.android.oss.network.ExecutionContext;
 
 import java.io.BufferedReader;
@@ -60,6 +67,10 @@ public class ExtensionRequestOperation {
         }
     }
 
+    public ListObjectsIterator listObjectsIterator(ListObjectsRequest request, int maxBufferedPages) {
+        return new ListObjectsIterator(apiOperation, request, maxBufferedPages);
+    }
+
     public void abortResumableUpload(ResumableUploadRequest request) throws IOException {
         setCRC64(request);
         String uploadFilePath = request.getUploadFilePath();
@@ -133,6 +144,34 @@ public class ExtensionRequestOperation {
                 , request, completedCallback, executionContext)), executionContext);
     }
 
+    public OSSAsyncTask<ParallelListObjectsResult> parallelListObjects(ParallelListObjectsRequest request
+            , OSSCompletedCallback<ParallelListObjectsRequest, ParallelListObjectsResult> completedCallback) {
+        ExecutionContext<ParallelListObjectsRequest, ParallelListObjectsResult> executionContext =
+                new ExecutionContext(apiOperation.getInnerClient(), request, apiOperation.getApplicationContext());
+
+        return OSSAsyncTask.wrapRequestTask(executorService.submit(new ParallelListObjectsTask(apiOperation
+                , request, completedCallback, executionContext)), executionContext);
+    }
+
+    public OSSAsyncTask<StreamUploadResult> streamUpload(StreamUploadRequest request
+            , OSSCompletedCallback<StreamUploadRequest, StreamUploadResult> completedCallback) {
+        setCRC64(request);
+        ExecutionContext<StreamUploadRequest, StreamUploadResult> executionContext =
+                new ExecutionContext(apiOperation.getInnerClient(), request, apiOperation.getApplicationContext());
+
+        return OSSAsyncTask.wrapRequestTask(executorService.submit(new StreamUploadTask(apiOperation
+                , request, completedCallback, executionContext)), executionContext);
+    }
+
+    public OSSAsyncTask<BatchPutObjectResult> batchPutObject(BatchPutObjectRequest request
+            , OSSCompletedCallback<BatchPutObjectRequest, BatchPutObjectResult> completedCallback) {
+        ExecutionContext<BatchPutObjectRequest, BatchPutObjectResult> executionContext =
+                new ExecutionContext(apiOperation.getInnerClient(), request, apiOperation.getApplicationContext());
+
+        return OSSAsyncTask.wrapRequestTask(executorService.submit(new BatchPutObjectTask(apiOperation
+                , request, completedCallback, executionContext)), executionContext);
+    }
+
     private void setCRC64(OSSRequest request) {
         Enum crc64 = request.getCRC64() != OSSRequest.CRC64Config.NULL ? request.getCRC64() :
                 (apiOperation.getConf().isCheckCRC64() ? OSSRequest.CRC64Config.YES : OSSRequest.CRC64Config.NO);
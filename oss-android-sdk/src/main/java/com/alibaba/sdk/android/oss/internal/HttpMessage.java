@@ -1,6 +1,6 @@
 package com.alibaba.sdk.android.oss.internal;
 
-import com.alibaba.sdk.android.oss.common.utils.CaseInsensitiveHashMap;
+import com.alibaba.sdk.android.oss.common.utils.HeaderMap;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -12,7 +12,7 @@ import java.util.Map;
  */
 
 abstract class HttpMessage {
-    private Map<String, String> headers = new CaseInsensitiveHashMap<String, String>();
+    private Map<String, String> headers = new HeaderMap<String>();
     private InputStream content;
     private long contentLength;
     private String stringBody;
@@ -23,7 +23,7 @@ abstract class HttpMessage {
 
     public void setHeaders(Map<String, String> headers) {
         if (this.headers == null) {
-            this.headers = new CaseInsensitiveHashMap<String, String>();
+            this.headers = new HeaderMap<String>();
         }
         if (this.headers != null && this.headers.size() > 0) {
             this.headers.clear();
@@ -32,6 +32,13 @@ abstract class HttpMessage {
         this.headers.putAll(headers);
     }
 
+    /**
+     * Uses the map itself as the headers, unlike {@link #setHeaders(Map)} which copies it
+     */
+    void attachHeaders(Map<String, String> headers) {
+        this.headers = headers;
+    }
+
     public void addHeader(String key, String value) {
         this.headers.put(key, value);
     }
@@ -18,6 +18,7 @@ import com.alibaba.sdk.android.oss.common.utils.CRC64;
 import com.alibaba.sdk.android.oss.common.utils.DateUtil;
 import com.alibaba.sdk.android.oss.common.utils.HttpHeaders;
 import com.alibaba.sdk.android.oss.common.utils.HttpUtil;
+import com.alibaba.sdk.android.oss.common.utils.HttpdnsMini;
 import com.alibaba.sdk.android.oss.common.utils.OSSUtils;
 import com.alibaba.sdk.android.oss.common.utils.VersionInfoUtils;
 import com.alibaba.sdk.android.oss.exception.InconsistentException;
@@ -74,12 +75,13 @@ import com.alibaba.sdk.android.oss.model.TriggerCallbackRequest;
 import com.alibaba.sdk.android.oss.model.TriggerCallbackResult;
 import com.alibaba.sdk.android.oss.model.UploadPartRequest;
 import com.alibaba.sdk.android.oss.model.UploadPartResult;
+import com.alibaba.sdk.android.oss.network.CancellationHandler;
+import com.alibaba.sdk.android.oss.network.ConnectionMetrics;
 import com.alibaba.sdk.android.oss.network.ExecutionContext;
+import com.alibaba.sdk.android.oss.network.HttpTransport;
 import com.alibaba.sdk.android.oss.network.OSSRequestTask;
 
 import java.io.UnsupportedEncodingException;
-import java.net.InetSocketAddress;
-import java.net.Proxy;
 import java.net.URI;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
@@ -89,13 +91,8 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
-import java.util.concurrent.TimeUnit;
 
-import javax.net.ssl.HostnameVerifier;
-import javax.net.ssl.HttpsURLConnection;
-import javax.net.ssl.SSLSession;
 
-import okhttp3.Dispatcher;
 import okhttp3.OkHttpClient;
 
 /**
@@ -114,11 +111,13 @@ public class InternalRequestOperation {
             });
     private volatile URI endpoint;
     private URI service;
+    private HttpTransport transport;
     private OkHttpClient innerClient;
     private Context applicationContext;
     private OSSCredentialProvider credentialProvider;
     private int maxRetryCount = OSSConstants.DEFAULT_RETRY_COUNT;
     private ClientConfiguration conf;
+    private ConnectionWarmer connectionWarmer;
 
     public InternalRequestOperation(Context context, final URI endpoint, OSSCredentialProvider credentialProvider, ClientConfiguration conf) {
         this.applicationContext = context;
@@ -126,34 +125,14 @@ public class InternalRequestOperation {
         this.credentialProvider = credentialProvider;
         this.conf = conf;
 
-        OkHttpClient.Builder builder = new OkHttpClient.Builder()
-                .followRedirects(false)
-                .followSslRedirects(false)
-                .retryOnConnectionFailure(false)
-                .cache(null)
-                .hostnameVerifier(new HostnameVerifier() {
-                    @Override
-                    public boolean verify(String hostname, SSLSession session) {
-                        return HttpsURLConnection.getDefaultHostnameVerifier().verify(endpoint.getHost(), session);
-                    }
-                });
-
+        this.transport = HttpTransport.obtain(conf);
+        this.innerClient = transport.getClient();
         if (conf != null) {
-            Dispatcher dispatcher = new Dispatcher();
-            dispatcher.setMaxRequests(conf.getMaxConcurrentRequest());
-
-            builder.connectTimeout(conf.getConnectionTimeout(), TimeUnit.MILLISECONDS)
-                    .readTimeout(conf.getSocketTimeout(), TimeUnit.MILLISECONDS)
-                    .writeTimeout(conf.getSocketTimeout(), TimeUnit.MILLISECONDS)
-                    .dispatcher(dispatcher);
-
-            if (conf.getProxyHost() != null && conf.getProxyPort() != 0) {
-                builder.proxy(new Proxy(Proxy.Type.HTTP, new InetSocketAddress(conf.getProxyHost(), conf.getProxyPort())));
-            }
-
             this.maxRetryCount = conf.getMaxErrorRetry();
+            if (context != null && conf.isHttpDnsEnable()) {
+                HttpdnsMini.getInstance().enablePersistence(context);
+            }
         }
-        this.innerClient = builder.build();
     }
 
     public InternalRequestOperation(Context context, OSSCredentialProvider credentialProvider, ClientConfiguration conf) {
@@ -167,34 +146,14 @@ public class InternalRequestOperation {
         this.applicationContext = context;
         this.credentialProvider = credentialProvider;
         this.conf = conf;
-        OkHttpClient.Builder builder = new OkHttpClient.Builder()
-                .followRedirects(false)
-                .followSslRedirects(false)
-                .retryOnConnectionFailure(false)
-                .cache(null)
-                .hostnameVerifier(new HostnameVerifier() {
-                    @Override
-                    public boolean verify(String hostname, SSLSession session) {
-                        return HttpsURLConnection.getDefaultHostnameVerifier().verify(service.getHost(), session);
-                    }
-                });
-
+        this.transport = HttpTransport.obtain(conf);
+        this.innerClient = transport.getClient();
         if (conf != null) {
-            Dispatcher dispatcher = new Dispatcher();
-            dispatcher.setMaxRequests(conf.getMaxConcurrentRequest());
-
-            builder.connectTimeout(conf.getConnectionTimeout(), TimeUnit.MILLISECONDS)
-                    .readTimeout(conf.getSocketTimeout(), TimeUnit.MILLISECONDS)
-                    .writeTimeout(conf.getSocketTimeout(), TimeUnit.MILLISECONDS)
-                    .dispatcher(dispatcher);
-
-            if (conf.getProxyHost() != null && conf.getProxyPort() != 0) {
-                builder.proxy(new Proxy(Proxy.Type.HTTP, new InetSocketAddress(conf.getProxyHost(), conf.getProxyPort())));
-            }
-
             this.maxRetryCount = conf.getMaxErrorRetry();
+            if (context != null && conf.isHttpDnsEnable()) {
+                HttpdnsMini.getInstance().enablePersistence(context);
+            }
         }
-        this.innerClient = builder.build();
     }
 
     public PutObjectResult syncPutObject(
@@ -207,6 +166,34 @@ public class InternalRequestOperation {
     public OSSAsyncTask<PutObjectResult> putObject(
             PutObjectRequest request, final OSSCompletedCallback<PutObjectRequest, PutObjectResult> completedCallback) {
 
+        ExecutionContext<PutObjectRequest, PutObjectResult> executionContext = new ExecutionContext(getInnerClient(), request, applicationContext);
+        Callable<PutObjectResult> callable = createPutObjectTask(request, completedCallback, executionContext);
+
+        return OSSAsyncTask.wrapRequestTask(executorService.submit(callable), executionContext);
+    }
+
+    /**
+     * Uploads the object in the calling thread, for tasks which schedule the uploads on their own threads
+     */
+    public PutObjectResult syncPutObjectInCurrentThread(
+            PutObjectRequest request, ExecutionContext<PutObjectRequest, PutObjectResult> executionContext) throws ClientException, ServiceException {
+        try {
+            PutObjectResult result = createPutObjectTask(request, null, executionContext).call();
+            checkCRC64(request, result);
+            return result;
+        } catch (ClientException e) {
+            throw e;
+        } catch (ServiceException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ClientException(e.getMessage(), e);
+        }
+    }
+
+    private Callable<PutObjectResult> createPutObjectTask(
+            PutObjectRequest request, final OSSCompletedCallback<PutObjectRequest, PutObjectResult> completedCallback,
+            ExecutionContext<PutObjectRequest, PutObjectResult> executionContext) {
+
         RequestMessage requestMessage = new RequestMessage();
         requestMessage.setIsAuthorizationRequired(request.isAuthorizationRequired());
         requestMessage.setEndpoint(endpoint);
@@ -230,7 +217,6 @@ public class InternalRequestOperation {
 
         canonicalizeRequestMessage(requestMessage, request);
 
-        ExecutionContext<PutObjectRequest, PutObjectResult> executionContext = new ExecutionContext(getInnerClient(), request, applicationContext);
         if (completedCallback != null) {
             executionContext.setCompletedCallback(new OSSCompletedCallback<PutObjectRequest, PutObjectResult>() {
                 @Override
@@ -252,9 +238,7 @@ public class InternalRequestOperation {
         executionContext.setProgressCallback(request.getProgressCallback());
         ResponseParser<PutObjectResult> parser = new ResponseParsers.PutObjectResponseParser();
 
-        Callable<PutObjectResult> callable = new OSSRequestTask<PutObjectResult>(requestMessage, parser, executionContext, maxRetryCount);
-
-        return OSSAsyncTask.wrapRequestTask(executorService.submit(callable), executionContext);
+        return new OSSRequestTask<PutObjectResult>(requestMessage, parser, executionContext, maxRetryCount);
     }
 
     public OSSAsyncTask<CreateBucketResult> createBucket(
@@ -664,6 +648,22 @@ public class InternalRequestOperation {
         return result;
     }
 
+    /**
+     * Uploads the part and waits for it, the upload is cancelled along with the given handler
+     */
+    public UploadPartResult syncUploadPart(UploadPartRequest request, CancellationHandler cancellationHandler)
+            throws ClientException, ServiceException {
+        OSSAsyncTask<UploadPartResult> task = uploadPart(request, null);
+        cancellationHandler.link(task.getCancellationHandler());
+        try {
+            UploadPartResult result = task.getResult();
+            checkCRC64(request, result);
+            return result;
+        } finally {
+            cancellationHandler.unlink(task.getCancellationHandler());
+        }
+    }
+
     public OSSAsyncTask<UploadPartResult> uploadPart(
             UploadPartRequest request, final OSSCompletedCallback<UploadPartRequest, UploadPartResult> completedCallback) {
 
@@ -883,6 +883,25 @@ public class InternalRequestOperation {
         return false;
     }
 
+    public synchronized void warmUpConnections(List<String> bucketNames, boolean rewarmOnNetworkChange) {
+        if (connectionWarmer == null) {
+            connectionWarmer = new ConnectionWarmer(this, executorService);
+        }
+        connectionWarmer.warmUp(bucketNames, rewarmOnNetworkChange);
+    }
+
+    URI getEndpoint() {
+        return endpoint;
+    }
+
+    boolean isHttpDnsAvailable() {
+        return checkIfHttpDnsAvailable(conf.isHttpDnsEnable());
+    }
+
+    public ConnectionMetrics getConnectionMetrics() {
+        return transport.getMetrics();
+    }
+
     public OkHttpClient getInnerClient() {
         return innerClient;
     }
@@ -902,9 +921,10 @@ public class InternalRequestOperation {
             }
         }
 
-        // When the HTTP proxy is set, httpDNS is not enabled.
-        message.setHttpDnsEnable(checkIfHttpDnsAvailable(conf.isHttpDnsEnable()));
         message.setCredentialProvider(credentialProvider);
+        message.setProgressInterval(conf.getProgressInterval());
+        message.setProgressByteStep(conf.getProgressByteStep());
+        message.setProgressCallbackExecutor(conf.getProgressCallbackExecutor());
 
         message.getHeaders().put(HttpHeaders.USER_AGENT, VersionInfoUtils.getUserAgent(conf.getCustomUserMark()));
 
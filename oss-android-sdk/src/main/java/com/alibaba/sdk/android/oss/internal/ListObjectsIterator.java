@@ -0,0 +1,168 @@
+package com.alibaba.sdk.android.oss.internal;
+
+import com.alibaba.sdk.android.oss.ClientException;
+import com.alibaba.sdk.android.oss.ServiceException;
+import com.alibaba.sdk.android.oss.callback.OSSCompletedCallback;
+import com.alibaba.sdk.android.oss.common.OSSConstants;
+import com.alibaba.sdk.android.oss.common.utils.HttpUtil;
+import com.alibaba.sdk.android.oss.model.ListObjectsRequest;
+import com.alibaba.sdk.android.oss.model.ListObjectsResult;
+import com.alibaba.sdk.android.oss.model.OSSObjectSummary;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Iterates the objects of a listing page by page.
+ * <p>
+ * The next page is requested as soon as a page arrives, so it downloads while the caller consumes
+ * the current one. At most the given count of pages which the caller hasn't reached yet are
+ * buffered, the listing pauses until the caller catches up. {@link #cancel()} stops the listing,
+ * e.g. when the caller doesn't need the rest of the objects.
+ */
+public class ListObjectsIterator {
+
+    private final InternalRequestOperation operation;
+    private final ListObjectsRequest request;
+    private final int maxBufferedPages;
+
+    private final LinkedList<ListObjectsResult> pages = new LinkedList<ListObjectsResult>();
+    private final List<String> commonPrefixes = new ArrayList<String>();
+    private Iterator<OSSObjectSummary> current;
+    private OSSAsyncTask<ListObjectsResult> inFlight;
+    private String nextMarker;
+    private boolean exhausted;
+    private boolean cancelled;
+    private ClientException clientException;
+    private ServiceException serviceException;
+
+    /**
+     * @param request          the listing, its marker is where it starts
+     * @param maxBufferedPages the max count of pages fetched ahead of the caller, at least 1
+     */
+    public ListObjectsIterator(InternalRequestOperation operation, ListObjectsRequest request,
+                               int maxBufferedPages) {
+        if (maxBufferedPages < 1) {
+            throw new IllegalArgumentException("maxBufferedPages should be at least 1.");
+        }
+        this.operation = operation;
+        this.request = request;
+        this.maxBufferedPages = maxBufferedPages;
+        this.nextMarker = request.getMarker();
+        synchronized (this) {
+            fetchNext();
+        }
+    }
+
+    /**
+     * Whether there is another object, waits for the page of the next object if needed
+     */
+    public synchronized boolean hasNext() throws ClientException, ServiceException {
+        while (true) {
+            if (current != null && current.hasNext()) {
+                return true;
+            }
+            if (cancelled) {
+                return false;
+            }
+            if (!pages.isEmpty()) {
+                ListObjectsResult page = pages.removeFirst();
+                commonPrefixes.addAll(page.getCommonPrefixes());
+                current = page.getObjectSummaries().iterator();
+                fetchNext();
+                continue;
+            }
+            if (clientException != null) {
+                throw clientException;
+            }
+            if (serviceException != null) {
+                throw serviceException;
+            }
+            if (exhausted) {
+                return false;
+            }
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ClientException("InterruptedException and message : " + e.getMessage(), e);
+            }
+        }
+    }
+
+    public synchronized OSSObjectSummary next() throws ClientException, ServiceException {
+        if (!hasNext()) {
+            throw new ClientException("No more objects in the listing.");
+        }
+        return current.next();
+    }
+
+    /**
+     * The common prefixes of the pages reached so far, when the listing has a delimiter
+     */
+    public synchronized List<String> getCommonPrefixes() {
+        return new ArrayList<String>(commonPrefixes);
+    }
+
+    /**
+     * Stops the listing, the pending request is cancelled and the buffered pages are dropped
+     */
+    public synchronized void cancel() {
+        cancelled = true;
+        pages.clear();
+        current = null;
+        if (inFlight != null) {
+            inFlight.cancel();
+            inFlight = null;
+        }
+        notifyAll();
+    }
+
+    // requires the lock
+    private void fetchNext() {
+        if (inFlight != null || exhausted || cancelled || clientException != null || serviceException != null
+                || pages.size() >= maxBufferedPages) {
+            return;
+        }
+        ListObjectsRequest page = new ListObjectsRequest(request.getBucketName(), request.getPrefix(),
+                nextMarker, request.getDelimiter(), request.getMaxKeys());
+        page.setEncodingType(request.getEncodingType());
+        page.setIsAuthorizationRequired(request.isAuthorizationRequired());
+        inFlight = operation.listObjects(page, new OSSCompletedCallback<ListObjectsRequest, ListObjectsResult>() {
+            @Override
+            public void onSuccess(ListObjectsRequest request, ListObjectsResult result) {
+                synchronized (ListObjectsIterator.this) {
+                    inFlight = null;
+                    if (cancelled) {
+                        return;
+                    }
+                    pages.addLast(result);
+                    nextMarker = result.getNextMarker();
+                    // the marker is sent encoded again, it must not be encoded twice
+                    if ("url".equals(result.getEncodingType())) {
+                        nextMarker = HttpUtil.urlDecode(nextMarker, OSSConstants.DEFAULT_CHARSET_NAME);
+                    }
+                    exhausted = !result.isTruncated() || nextMarker == null;
+                    fetchNext();
+                    ListObjectsIterator.this.notifyAll();
+                }
+            }
+
+            @Override
+            public void onFailure(ListObjectsRequest request, ClientException clientException,
+                                  ServiceException serviceException) {
+                synchronized (ListObjectsIterator.this) {
+                    inFlight = null;
+                    if (cancelled) {
+                        return;
+                    }
+                    ListObjectsIterator.this.clientException = clientException;
+                    ListObjectsIterator.this.serviceException = serviceException;
+                    ListObjectsIterator.this.notifyAll();
+                }
+            }
+        });
+    }
+}
@@ -3,6 +3,7 @@ package com.alibaba.sdk.android.oss.internal;
 import com.alibaba.sdk.android.oss.ClientException;
 import com.alibaba.sdk.android.oss.ServiceException;
 import com.alibaba.sdk.android.oss.model.OSSResult;
+import com.alibaba.sdk.android.oss.network.CancellationHandler;
 import com.alibaba.sdk.android.oss.network.ExecutionContext;
 
 import java.util.concurrent.ExecutionException;
@@ -36,6 +37,10 @@ public class OSSAsyncTask<T extends OSSResult> {
         }
     }
 
+    CancellationHandler getCancellationHandler() {
+        return context == null ? null : context.getCancellationHandler();
+    }
+
     /**
      * Checks if the task is complete
      *
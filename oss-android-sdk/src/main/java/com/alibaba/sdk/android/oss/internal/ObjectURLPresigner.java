@@ -5,6 +5,7 @@ import com.alibaba.sdk.android.oss.ClientException;
 import com.alibaba.sdk.android.oss.common.HttpMethod;
 import com.alibaba.sdk.android.oss.common.OSSConstants;
 import com.alibaba.sdk.android.oss.common.RequestParameters;
+import com.alibaba.sdk.android.oss.common.auth.HmacSHA1Signature;
 import com.alibaba.sdk.android.oss.common.auth.OSSCredentialProvider;
 import com.alibaba.sdk.android.oss.common.auth.OSSCustomSignerCredentialProvider;
 import com.alibaba.sdk.android.oss.common.auth.OSSFederationCredentialProvider;
@@ -18,8 +19,11 @@ import com.alibaba.sdk.android.oss.common.utils.OSSUtils;
 import com.alibaba.sdk.android.oss.model.GeneratePresignedUrlRequest;
 
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * Created by zhouzhuo on 11/29/15.
@@ -29,20 +33,40 @@ public class ObjectURLPresigner {
     private URI endpoint;
     private OSSCredentialProvider credentialProvider;
     private ClientConfiguration conf;
+    private PresignedURLCache cache;
 
     public ObjectURLPresigner(URI endpoint, OSSCredentialProvider credentialProvider, ClientConfiguration conf) {
+        this(endpoint, credentialProvider, conf, null);
+    }
+
+    /**
+     * @param cache the cache of the presigned urls, null to sign every url
+     */
+    public ObjectURLPresigner(URI endpoint, OSSCredentialProvider credentialProvider, ClientConfiguration conf,
+                              PresignedURLCache cache) {
         this.endpoint = endpoint;
         this.credentialProvider = credentialProvider;
         this.conf = conf;
+        this.cache = cache;
     }
 
     public String presignConstrainedURL(GeneratePresignedUrlRequest request) throws ClientException {
 
         String bucketName = request.getBucketName();
         String objectKey = request.getKey();
-        String expires = String.valueOf(DateUtil.getFixedSkewedTimeMillis() / 1000 + request.getExpiration());
+        long expiresInSec = DateUtil.getFixedSkewedTimeMillis() / 1000 + request.getExpiration();
+        String expires = String.valueOf(expiresInSec);
         HttpMethod method = request.getMethod() != null ? request.getMethod() : HttpMethod.GET;
 
+        String cacheKey = null;
+        if (cache != null) {
+            cacheKey = buildCacheKey(request, method);
+            String cached = cache.get(cacheKey);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
         RequestMessage requestMessage = new RequestMessage();
         requestMessage.setEndpoint(endpoint);
         requestMessage.setMethod(method);
@@ -100,10 +124,7 @@ public class ObjectURLPresigner {
         String accessKey = signature.split(":")[0].substring(4);
         signature = signature.split(":")[1];
 
-        String host = endpoint.getHost();
-        if (!OSSUtils.isCname(host) || OSSUtils.isInCustomCnameExcludeList(host, conf.getCustomCnameExcludeList())) {
-            host = bucketName + "." + host;
-        }
+        String host = buildHost(bucketName);
 
         Map<String, String> params = new LinkedHashMap<String, String>();
         params.put(HttpHeaders.EXPIRES, expires);
@@ -116,9 +137,126 @@ public class ObjectURLPresigner {
         String url = endpoint.getScheme() + "://" + host + "/" + HttpUtil.urlEncode(objectKey, OSSConstants.DEFAULT_CHARSET_NAME)
                 + "?" + queryString;
 
+        if (cache != null) {
+            cache.put(cacheKey, url, token == null ? expiresInSec : Math.min(expiresInSec, token.getExpiration()));
+        }
         return url;
     }
 
+    /**
+     * Presigns GET urls of many objects of a bucket. The token, expiration, host and signing key are
+     * taken once for the whole batch.
+     *
+     * @param processes the image process of each object, null or a null item for none
+     */
+    public List<String> presignConstrainedURLs(String bucketName, List<String> objectKeys, List<String> processes,
+                                               long expiredTimeInSeconds) throws ClientException {
+        if (processes != null && processes.size() != objectKeys.size()) {
+            throw new IllegalArgumentException("The processes must match the object keys!");
+        }
+        long expiresInSec = DateUtil.getFixedSkewedTimeMillis() / 1000 + expiredTimeInSeconds;
+        String expires = String.valueOf(expiresInSec);
+
+        String accessKeyId = null;
+        String secretKey = null;
+        String securityToken = null;
+        long validInSec = expiresInSec;
+        if (credentialProvider instanceof OSSFederationCredentialProvider) {
+            OSSFederationToken token = ((OSSFederationCredentialProvider) credentialProvider).getValidFederationToken();
+            if (token == null) {
+                throw new ClientException("Can not get a federation token!");
+            }
+            accessKeyId = token.getTempAK();
+            secretKey = token.getTempSK();
+            securityToken = token.getSecurityToken();
+            validInSec = Math.min(expiresInSec, token.getExpiration());
+        } else if (credentialProvider instanceof OSSStsTokenCredentialProvider) {
+            OSSFederationToken token = ((OSSStsTokenCredentialProvider) credentialProvider).getFederationToken();
+            accessKeyId = token.getTempAK();
+            secretKey = token.getTempSK();
+            securityToken = token.getSecurityToken();
+            validInSec = Math.min(expiresInSec, token.getExpiration());
+        } else if (credentialProvider instanceof OSSPlainTextAKSKCredentialProvider) {
+            accessKeyId = ((OSSPlainTextAKSKCredentialProvider) credentialProvider).getAccessKeyId();
+            secretKey = ((OSSPlainTextAKSKCredentialProvider) credentialProvider).getAccessKeySecret();
+        } else if (!(credentialProvider instanceof OSSCustomSignerCredentialProvider)) {
+            throw new ClientException("Unknown credentialProvider!");
+        }
+
+        // "GET\n" + empty content md5 and type + expires, then the resource
+        String signPrefix = HttpMethod.GET.toString() + "\n\n\n" + expires + "\n/" + bucketName + "/";
+        String urlPrefix = endpoint.getScheme() + "://" + buildHost(bucketName) + "/";
+        String encodedToken = securityToken == null ? null
+                : HttpUtil.urlEncode(securityToken, OSSConstants.DEFAULT_CHARSET_NAME);
+        HmacSHA1Signature hmac = new HmacSHA1Signature();
+
+        List<String> urls = new ArrayList<String>(objectKeys.size());
+        StringBuilder content = new StringBuilder(256);
+        StringBuilder url = new StringBuilder(512);
+        for (int i = 0; i < objectKeys.size(); i++) {
+            String objectKey = objectKeys.get(i);
+            String process = processes == null ? null : processes.get(i);
+            if (process != null && process.trim().equals("")) {
+                process = null;
+            }
+
+            String cacheKey = null;
+            if (cache != null) {
+                GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucketName, objectKey, expiredTimeInSeconds);
+                request.setProcess(process);
+                cacheKey = buildCacheKey(request, HttpMethod.GET);
+                String cached = cache.get(cacheKey);
+                if (cached != null) {
+                    urls.add(cached);
+                    continue;
+                }
+            }
+
+            // the signed parameters in the order of their names
+            content.setLength(0);
+            content.append(signPrefix).append(objectKey);
+            char separator = '?';
+            if (securityToken != null) {
+                content.append(separator).append(RequestParameters.SECURITY_TOKEN).append('=').append(securityToken);
+                separator = '&';
+            }
+            if (process != null) {
+                content.append(separator).append(RequestParameters.X_OSS_PROCESS).append('=').append(process);
+            }
+
+            String signature;
+            String keyId = accessKeyId;
+            if (secretKey != null) {
+                signature = hmac.computeSignature(secretKey, content.toString()).trim();
+            } else {
+                String authorization = ((OSSCustomSignerCredentialProvider) credentialProvider).signContent(content.toString());
+                keyId = authorization.split(":")[0].substring(4);
+                signature = authorization.split(":")[1];
+            }
+
+            url.setLength(0);
+            url.append(urlPrefix).append(HttpUtil.urlEncode(objectKey, OSSConstants.DEFAULT_CHARSET_NAME))
+                    .append('?').append(HttpHeaders.EXPIRES).append('=').append(expires)
+                    .append('&').append(RequestParameters.OSS_ACCESS_KEY_ID).append('=')
+                    .append(HttpUtil.urlEncode(keyId, OSSConstants.DEFAULT_CHARSET_NAME))
+                    .append('&').append(RequestParameters.SIGNATURE).append('=')
+                    .append(HttpUtil.urlEncode(signature, OSSConstants.DEFAULT_CHARSET_NAME));
+            if (process != null) {
+                url.append('&').append(RequestParameters.X_OSS_PROCESS).append('=')
+                        .append(HttpUtil.urlEncode(process, OSSConstants.DEFAULT_CHARSET_NAME));
+            }
+            if (encodedToken != null) {
+                url.append('&').append(RequestParameters.SECURITY_TOKEN).append('=').append(encodedToken);
+            }
+            String presigned = url.toString();
+            if (cache != null) {
+                cache.put(cacheKey, presigned, validInSec);
+            }
+            urls.add(presigned);
+        }
+        return urls;
+    }
+
     public String presignConstrainedURL(String bucketName, String objectKey, long expiredTimeInSeconds)
             throws ClientException {
         GeneratePresignedUrlRequest presignedUrlRequest = new GeneratePresignedUrlRequest(bucketName, objectKey);
@@ -127,10 +265,33 @@ public class ObjectURLPresigner {
     }
 
     public String presignPublicURL(String bucketName, String objectKey) {
+        String host = buildHost(bucketName);
+        return endpoint.getScheme() + "://" + host + "/" + HttpUtil.urlEncode(objectKey, OSSConstants.DEFAULT_CHARSET_NAME);
+    }
+
+    private static String buildCacheKey(GeneratePresignedUrlRequest request, HttpMethod method) {
+        StringBuilder key = new StringBuilder();
+        key.append(method).append('\n')
+                .append(request.getBucketName()).append('\n')
+                .append(request.getKey()).append('\n')
+                .append(request.getExpiration()).append('\n')
+                .append(request.getProcess()).append('\n')
+                .append(request.getContentType()).append('\n')
+                .append(request.getContentMD5());
+        Map<String, String> params = request.getQueryParameter();
+        if (params != null && !params.isEmpty()) {
+            for (Map.Entry<String, String> param : new TreeMap<String, String>(params).entrySet()) {
+                key.append('\n').append(param.getKey()).append('=').append(param.getValue());
+            }
+        }
+        return key.toString();
+    }
+
+    private String buildHost(String bucketName) {
         String host = endpoint.getHost();
         if (!OSSUtils.isCname(host) || OSSUtils.isInCustomCnameExcludeList(host, conf.getCustomCnameExcludeList())) {
             host = bucketName + "." + host;
         }
-        return endpoint.getScheme() + "://" + host + "/" + HttpUtil.urlEncode(objectKey, OSSConstants.DEFAULT_CHARSET_NAME);
+        return host;
     }
 }
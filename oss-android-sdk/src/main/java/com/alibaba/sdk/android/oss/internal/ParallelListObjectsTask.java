@@ -0,0 +1,231 @@
+package com.alibaba.sdk.android.oss.internal;
+
+import com.alibaba.sdk.android.oss.ClientException;
+import com.alibaba.sdk.android.oss.ServiceException;
+import com.alibaba.sdk.android.oss.TaskCancelException;
+import com.alibaba.sdk.android.oss.callback.OSSCompletedCallback;
+import com.alibaba.sdk.android.oss.common.OSSLog;
+import com.alibaba.sdk.android.oss.model.ListObjectsRequest;
+import com.alibaba.sdk.android.oss.model.ListObjectsResult;
+import com.alibaba.sdk.android.oss.model.OSSObjectSummary;
+import com.alibaba.sdk.android.oss.model.ParallelListObjectsRequest;
+import com.alibaba.sdk.android.oss.model.ParallelListObjectsResult;
+import com.alibaba.sdk.android.oss.network.ExecutionContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Lists the shards of a parallel listing on a pool of the request's concurrency.
+ * <p>
+ * Every shard is listed by ListObjects following its markers, the first failing shard stops the
+ * others and fails the listing. As the shards are disjoint key ranges, the ordered result is the
+ * shards' objects concatenated in key order.
+ */
+public class ParallelListObjectsTask implements Callable<ParallelListObjectsResult> {
+
+    private InternalRequestOperation mApiOperation;
+    private ParallelListObjectsRequest mRequest;
+    private OSSCompletedCallback<ParallelListObjectsRequest, ParallelListObjectsResult> mCompletedCallback;
+    private ExecutionContext mContext;
+
+    private List<OSSObjectSummary> mTopLevelObjects = new ArrayList<OSSObjectSummary>();
+    private List<OSSObjectSummary> mArrivedObjects = new ArrayList<OSSObjectSummary>();
+    private AtomicReference<Exception> mFailure = new AtomicReference<Exception>();
+
+    public ParallelListObjectsTask(InternalRequestOperation operation, ParallelListObjectsRequest request,
+                                   OSSCompletedCallback<ParallelListObjectsRequest, ParallelListObjectsResult> completedCallback,
+                                   ExecutionContext context) {
+        mApiOperation = operation;
+        mRequest = request;
+        mCompletedCallback = completedCallback;
+        mContext = context;
+    }
+
+    @Override
+    public ParallelListObjectsResult call() throws Exception {
+        try {
+            ParallelListObjectsResult result = listShards();
+            if (mCompletedCallback != null) {
+                mCompletedCallback.onSuccess(mRequest, result);
+            }
+            return result;
+        } catch (ClientException e) {
+            if (mCompletedCallback != null) {
+                mCompletedCallback.onFailure(mRequest, e, null);
+            }
+            throw e;
+        } catch (ServiceException e) {
+            if (mCompletedCallback != null) {
+                mCompletedCallback.onFailure(mRequest, null, e);
+            }
+            throw e;
+        }
+    }
+
+    private ParallelListObjectsResult listShards() throws ClientException, ServiceException {
+        final List<ParallelListObjectsRequest.Shard> shards = mRequest.getSplitKeys().isEmpty()
+                ? discoverShards() : splitShards();
+        final List<List<OSSObjectSummary>> shardObjects = new ArrayList<List<OSSObjectSummary>>();
+        for (int i = 0; i < shards.size(); i++) {
+            shardObjects.add(new ArrayList<OSSObjectSummary>());
+        }
+
+        int concurrency = Math.min(mRequest.getConcurrency(), Math.max(1, shards.size()));
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency, new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                return new Thread(runnable, "oss-android-parallel-list-thread");
+            }
+        });
+        final AtomicInteger nextShard = new AtomicInteger();
+        final CountDownLatch latch = new CountDownLatch(concurrency);
+        try {
+            for (int i = 0; i < concurrency; i++) {
+                executor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            int index;
+                            while (mFailure.get() == null && (index = nextShard.getAndIncrement()) < shards.size()) {
+                                try {
+                                    listShard(shards.get(index), shardObjects.get(index));
+                                } catch (Exception e) {
+                                    OSSLog.logError("[parallel list] - " + shards.get(index) + " failed");
+                                    mFailure.compareAndSet(null, e);
+                                }
+                            }
+                        } finally {
+                            latch.countDown();
+                        }
+                    }
+                });
+            }
+            latch.await();
+        } catch (InterruptedException e) {
+            throw new ClientException(e.getMessage(), e);
+        } finally {
+            executor.shutdown();
+        }
+
+        Exception failure = mFailure.get();
+        if (failure instanceof ServiceException) {
+            throw (ServiceException) failure;
+        } else if (failure instanceof ClientException) {
+            throw (ClientException) failure;
+        } else if (failure != null) {
+            throw new ClientException(failure.getMessage(), failure);
+        }
+
+        List<OSSObjectSummary> objects = new ArrayList<OSSObjectSummary>();
+        if (mRequest.isOrdered()) {
+            // the top level objects and the shards are both in key order, merge them
+            int top = 0;
+            for (int i = 0; i < shards.size(); i++) {
+                String shardStart = shards.get(i).getPrefix();
+                while (top < mTopLevelObjects.size() && mTopLevelObjects.get(top).getKey().compareTo(shardStart) < 0) {
+                    objects.add(mTopLevelObjects.get(top++));
+                }
+                objects.addAll(shardObjects.get(i));
+            }
+            objects.addAll(mTopLevelObjects.subList(top, mTopLevelObjects.size()));
+        } else {
+            objects.addAll(mTopLevelObjects);
+            objects.addAll(mArrivedObjects);
+        }
+
+        ParallelListObjectsResult result = new ParallelListObjectsResult();
+        result.setObjectSummaries(objects);
+        result.setShards(shards);
+        result.setStatusCode(200);
+        return result;
+    }
+
+    /**
+     * Lists the prefix with the delimiter, its common prefixes are the shards
+     */
+    private List<ParallelListObjectsRequest.Shard> discoverShards() throws ClientException, ServiceException {
+        List<ParallelListObjectsRequest.Shard> shards = new ArrayList<ParallelListObjectsRequest.Shard>();
+        String marker = null;
+        ListObjectsResult page;
+        do {
+            checkCancelled();
+            ListObjectsRequest list = new ListObjectsRequest(mRequest.getBucketName(), mRequest.getPrefix(),
+                    marker, mRequest.getDelimiter(), mRequest.getMaxKeys());
+            page = mApiOperation.listObjects(list, null).getResult();
+            mTopLevelObjects.addAll(page.getObjectSummaries());
+            for (String commonPrefix : page.getCommonPrefixes()) {
+                shards.add(new ParallelListObjectsRequest.Shard(commonPrefix, null, null));
+            }
+            marker = page.getNextMarker();
+        } while (page.isTruncated() && marker != null);
+        return shards;
+    }
+
+    private List<ParallelListObjectsRequest.Shard> splitShards() {
+        List<ParallelListObjectsRequest.Shard> shards = new ArrayList<ParallelListObjectsRequest.Shard>();
+        String start = null;
+        for (String splitKey : new TreeSet<String>(mRequest.getSplitKeys())) {
+            shards.add(new ParallelListObjectsRequest.Shard(mRequest.getPrefix(), start, splitKey));
+            start = splitKey;
+        }
+        shards.add(new ParallelListObjectsRequest.Shard(mRequest.getPrefix(), start, null));
+        return shards;
+    }
+
+    private void listShard(ParallelListObjectsRequest.Shard shard, List<OSSObjectSummary> objects)
+            throws ClientException, ServiceException {
+        String marker = shard.getStartAfter();
+        long listed = 0;
+        boolean finished = false;
+        while (!finished) {
+            checkCancelled();
+            if (mFailure.get() != null) {
+                return;
+            }
+            ListObjectsRequest list = new ListObjectsRequest(mRequest.getBucketName(), shard.getPrefix(),
+                    marker, null, mRequest.getMaxKeys());
+            ListObjectsResult page = mApiOperation.listObjects(list, null).getResult();
+
+            List<OSSObjectSummary> inShard = page.getObjectSummaries();
+            if (shard.getEndAt() != null) {
+                for (int i = 0; i < inShard.size(); i++) {
+                    if (inShard.get(i).getKey().compareTo(shard.getEndAt()) > 0) {
+                        inShard = inShard.subList(0, i);
+                        finished = true;
+                        break;
+                    }
+                }
+            }
+            if (mRequest.isOrdered()) {
+                objects.addAll(inShard);
+            } else {
+                synchronized (mArrivedObjects) {
+                    mArrivedObjects.addAll(inShard);
+                }
+            }
+            listed += inShard.size();
+            marker = page.getNextMarker();
+            finished |= !page.isTruncated() || marker == null;
+
+            if (mRequest.getShardProgressCallback() != null) {
+                mRequest.getShardProgressCallback().onShardProgress(shard, listed, finished);
+            }
+        }
+    }
+
+    private void checkCancelled() throws ClientException {
+        if (mContext.getCancellationHandler().isCancelled()) {
+            TaskCancelException e = new TaskCancelException("parallel list cancel");
+            throw new ClientException(e.getMessage(), e, true);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.alibaba.sdk.android.oss.internal;
+
+import com.alibaba.sdk.android.oss.common.utils.DateUtil;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Reuses presigned urls, so the same object gets the same url and the http and image caches keyed
+ * by the url keep hitting.
+ * <p>
+ * A url is reused until the given ratio of its lifetime elapsed, the lifetime ends when the url or
+ * the STS token it's signed with expires. The least recently used urls are evicted.
+ */
+public class PresignedURLCache {
+
+    private final float reuseRatio;
+    private final Map<String, Entry> entries;
+
+    /**
+     * @param maxEntries the max count of cached urls
+     * @param reuseRatio the ratio of the lifetime of a url it's reused in, between 0 and 1
+     */
+    public PresignedURLCache(final int maxEntries, float reuseRatio) {
+        this.reuseRatio = reuseRatio;
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Gets the cached url, null if there is none or it's not to be reused anymore
+     */
+    public synchronized String get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (DateUtil.getFixedSkewedTimeMillis() >= entry.reuseUntil) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.url;
+    }
+
+    /**
+     * Caches a url
+     *
+     * @param expiresInSec the time the url or its token expires, in seconds since the epoch
+     */
+    public synchronized void put(String key, String url, long expiresInSec) {
+        long now = DateUtil.getFixedSkewedTimeMillis();
+        long lifetime = expiresInSec * 1000 - now;
+        if (lifetime <= 0) {
+            return;
+        }
+        entries.put(key, new Entry(url, now + (long) (lifetime * reuseRatio)));
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    private static class Entry {
+        private final String url;
+        private final long reuseUntil;
+
+        Entry(String url, long reuseUntil) {
+            this.url = url;
+            this.reuseUntil = reuseUntil;
+        }
+    }
+}
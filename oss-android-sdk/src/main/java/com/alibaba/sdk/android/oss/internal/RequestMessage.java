@@ -4,11 +4,9 @@ import android.text.TextUtils;
 
 import com.alibaba.sdk.android.oss.common.HttpMethod;
 import com.alibaba.sdk.android.oss.common.OSSConstants;
-import com.alibaba.sdk.android.oss.common.OSSHeaders;
 import com.alibaba.sdk.android.oss.common.OSSLog;
 import com.alibaba.sdk.android.oss.common.auth.OSSCredentialProvider;
 import com.alibaba.sdk.android.oss.common.utils.HttpUtil;
-import com.alibaba.sdk.android.oss.common.utils.HttpdnsMini;
 import com.alibaba.sdk.android.oss.common.utils.OSSUtils;
 
 import java.io.ByteArrayInputStream;
@@ -18,6 +16,7 @@ import java.net.URI;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 /**
  * Created by zhouzhuo on 11/22/15.
@@ -32,8 +31,10 @@ public class RequestMessage extends HttpMessage {
     private boolean isAuthorizationRequired = true;
     private Map<String, String> parameters = new LinkedHashMap<String, String>();
     private boolean checkCRC64;
+    private long progressInterval;
+    private long progressByteStep;
+    private Executor progressCallbackExecutor;
     private OSSCredentialProvider credentialProvider;
-    private boolean httpDnsEnable = false;
 
     private boolean isInCustomCnameExcludeList = false;
 
@@ -72,14 +73,6 @@ public class RequestMessage extends HttpMessage {
         this.endpoint = endpoint;
     }
 
-    public boolean isHttpDnsEnable() {
-        return httpDnsEnable;
-    }
-
-    public void setHttpDnsEnable(boolean httpDnsEnable) {
-        this.httpDnsEnable = httpDnsEnable;
-    }
-
     public String getBucketName() {
         return bucketName;
     }
@@ -144,6 +137,30 @@ public class RequestMessage extends HttpMessage {
         this.checkCRC64 = checkCRC64;
     }
 
+    public long getProgressInterval() {
+        return progressInterval;
+    }
+
+    public void setProgressInterval(long progressInterval) {
+        this.progressInterval = progressInterval;
+    }
+
+    public long getProgressByteStep() {
+        return progressByteStep;
+    }
+
+    public void setProgressByteStep(long progressByteStep) {
+        this.progressByteStep = progressByteStep;
+    }
+
+    public Executor getProgressCallbackExecutor() {
+        return progressCallbackExecutor;
+    }
+
+    public void setProgressCallbackExecutor(Executor progressCallbackExecutor) {
+        this.progressCallbackExecutor = progressCallbackExecutor;
+    }
+
     public void createBucketRequestBodyMarshall(Map<String, String> configures) throws UnsupportedEncodingException {
         StringBuffer xmlBody = new StringBuffer();
         if (configures != null) {
@@ -187,19 +204,7 @@ public class RequestMessage extends HttpMessage {
         String originHost = service.getHost();
         String scheme = service.getScheme();
 
-        String urlHost = null;
-        if (isHttpDnsEnable()) {
-            urlHost = HttpdnsMini.getInstance().getIpByHostAsync(originHost);
-        } else {
-            OSSLog.logDebug("[buildOSSServiceURL], disable httpdns");
-        }
-        if (urlHost == null) {
-            urlHost = originHost;
-        }
-
-        getHeaders().put(OSSHeaders.HOST, originHost);
-
-        String baseURL = scheme + "://" + urlHost;
+        String baseURL = scheme + "://" + originHost;
         String queryString = OSSUtils.paramToQueryString(this.parameters, OSSConstants.DEFAULT_CHARSET_NAME);
 
         if (OSSUtils.isEmptyString(queryString)) {
@@ -233,26 +238,19 @@ public class RequestMessage extends HttpMessage {
 
         String baseURL = endpoint.toString();
 
+        /*
+         * edited by wangzheng.
+         * 重新整理url build 逻辑。如果是标准阿里云的域名。通过bucket拼装获取实际访问url。
+         * 否则，直接用用户传入的自定义域名或者ip链接object 进行访问。
+         */
         if (!TextUtils.isEmpty(bucketName)) {
             if (OSSUtils.isValidateIP(originHost)) {
                 // ip address
                 baseURL = endpoint.toString() + "/" + bucketName;
             } else if (OSSUtils.isOssOriginHost(originHost)) {
-                // official endpoint
+                // official endpoint, its host is resolved by HttpDns
                 originHost = bucketName + "." + originHost;
-                String urlHost = null;
-                if (isHttpDnsEnable()) {
-                    urlHost = HttpdnsMini.getInstance().getIpByHostAsync(originHost);
-                } else {
-                    OSSLog.logDebug("[buildCannonicalURL], disable httpdns");
-                }
-                addHeader(OSSHeaders.HOST, originHost);
-
-                if (!TextUtils.isEmpty(urlHost)) {
-                    baseURL = scheme + "://" + urlHost;
-                } else {
-                    baseURL = scheme + "://" + originHost;
-                }
+                baseURL = scheme + "://" + originHost;
             } else {
                 // cname时不做任何处理
                 baseURL = endpoint.toString();
@@ -261,64 +259,6 @@ public class RequestMessage extends HttpMessage {
             baseURL = endpoint.toString();
         }
 
-        /*
-         * edited by wangzheng.
-         * 重新整理url build 逻辑。如果是标准阿里云的域名。通过bucket拼装获取实际访问url。
-         * 否则，直接用用户传入的自定义域名或者ip链接object 进行访问。
-         */
-//        if (OSSUtils.isOssOriginHost(originHost) && !TextUtils.isEmpty(bucketName)){
-//            originHost = bucketName + "." + originHost;
-//            String urlHost = null;
-//            if (isHttpDnsEnable()) {
-//                urlHost = HttpdnsMini.getInstance().getIpByHostAsync(originHost);
-//            } else {
-//                OSSLog.logDebug("[buildCannonicalURL], disable httpdns");
-//            }
-//            // The urlHost is null when the asynchronous DNS resolution API never returns IP.
-//            if (urlHost == null) {
-//                urlHost = originHost;
-//            }
-//            String headerHost = originHost;
-
-            // isCname and isOssOriginHost are mutually exclusive, so code below will never be executed!
-//            if (OSSUtils.isCname(originHost) && this.isInCustomCnameExcludeList() && !TextUtils.isEmpty(bucketName)) {
-//                headerHost = bucketName + "." + originHost;
-//            }
-//            addHeader(OSSHeaders.HOST, originHost);
-//            baseURL = scheme + "://" + urlHost;
-//
-//        } else {
-//            baseURL = scheme + "://" + originHost;
-//        }
-
-//        if (OSSUtils.isValidateIP(originHost)) {
-//            baseURL = scheme + "://" + originHost + "/" + bucketName;
-//        } else {
-//            // If it'd not a CName or it's in the CName exclude list, the host should be prefixed with the bucket name.
-//            if (!OSSUtils.isCname(originHost) && bucketName != null) {
-//                originHost = bucketName + "." + originHost;
-//            }
-//
-//            String urlHost = null;
-//            if (isHttpDnsEnable()) {
-//                urlHost = HttpdnsMini.getInstance().getIpByHostAsync(originHost);
-//            } else {
-//                OSSLog.logDebug("[buildCannonicalURL], disable httpdns");
-//            }
-//
-//            // The urlHost is null when the asynchronous DNS resolution API never returns IP.
-//            if (urlHost == null) {
-//                urlHost = originHost;
-//            }
-//
-//            String headerHost = originHost;
-//            if (OSSUtils.isCname(originHost) && this.isInCustomCnameExcludeList() && bucketName != null) {
-//                headerHost = bucketName + "." + originHost;
-//            }
-//            addHeader(OSSHeaders.HOST, headerHost);
-//            baseURL = scheme + "://" + urlHost;
-//        }
-
         if (!TextUtils.isEmpty(objectKey)) {
             baseURL += "/" + HttpUtil.urlEncode(objectKey, OSSConstants.DEFAULT_CHARSET_NAME);
         }
@@ -0,0 +1,78 @@
+package com.alibaba.sdk.android.oss.internal;
+
+import com.alibaba.sdk.android.oss.common.utils.HeaderMap;
+
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.Set;
+
+import okhttp3.Headers;
+
+/**
+ * The case insensitive headers of a response. The response message and its result have a view each,
+ * over the same immutable okhttp headers.
+ * <p>
+ * The lookups go to the okhttp headers, which are kept as a flat array, a map is only built when
+ * the headers are iterated or modified.
+ */
+class ResponseHeaders extends AbstractMap<String, String> {
+
+    private final Headers headers;
+    private Map<String, String> map;
+
+    ResponseHeaders(Headers headers) {
+        this.headers = headers;
+    }
+
+    @Override
+    public String get(Object key) {
+        if (map != null) {
+            return map.get(key);
+        }
+        return key instanceof String ? headers.get((String) key) : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (map != null) {
+            return map.containsKey(key);
+        }
+        return get(key) != null;
+    }
+
+    @Override
+    public String put(String key, String value) {
+        return materialize().put(key, value);
+    }
+
+    @Override
+    public String remove(Object key) {
+        return materialize().remove(key);
+    }
+
+    @Override
+    public void clear() {
+        materialize().clear();
+    }
+
+    @Override
+    public int size() {
+        return materialize().size();
+    }
+
+    @Override
+    public Set<Entry<String, String>> entrySet() {
+        return materialize().entrySet();
+    }
+
+    private Map<String, String> materialize() {
+        if (map == null) {
+            Map<String, String> result = new HeaderMap<String>();
+            for (int i = 0; i < headers.size(); i++) {
+                result.put(headers.name(i), headers.value(i));
+            }
+            map = result;
+        }
+        return map;
+    }
+}
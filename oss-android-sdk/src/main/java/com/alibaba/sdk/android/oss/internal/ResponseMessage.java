@@ -26,6 +26,7 @@ public class ResponseMessage extends HttpMessage {
 
     public void setResponse(Response response) {
         this.response = response;
+        attachHeaders(new ResponseHeaders(response.headers()));
     }
 
     public RequestMessage getRequest() {
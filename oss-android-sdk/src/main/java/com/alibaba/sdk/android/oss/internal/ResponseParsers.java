@@ -48,8 +48,10 @@ import org.xmlpull.v1.XmlPullParserException;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.Reader;
 import java.text.ParseException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -59,10 +61,13 @@ import java.util.Map;
  */
 public final class ResponseParsers {
 
+    // creating a parser is costly, every thread reuses its own one
+    private static final ThreadLocal<XmlPullParser> PULL_PARSER = new ThreadLocal<XmlPullParser>();
+
     private static CopyObjectResult parseCopyObjectResponseXML(InputStream in, CopyObjectResult result)
             throws Exception {
 
-        XmlPullParser parser = Xml.newPullParser();
+        XmlPullParser parser = obtainPullParser();
         parser.setInput(in, "utf-8");
         int eventType = parser.getEventType();
         while (eventType != XmlPullParser.END_DOCUMENT) {
@@ -90,7 +95,7 @@ public final class ResponseParsers {
 
         List<PartSummary> partEtagList = new ArrayList<PartSummary>();
         PartSummary partSummary = null;
-        XmlPullParser parser = Xml.newPullParser();
+        XmlPullParser parser = obtainPullParser();
         parser.setInput(in, "utf-8");
         int eventType = parser.getEventType();
         while (eventType != XmlPullParser.END_DOCUMENT) {
@@ -130,16 +135,16 @@ public final class ResponseParsers {
                     } else if ("PartNumber".equals(name)) {
                         String partNum = parser.nextText();
                         if (!OSSUtils.isEmptyString(partNum)) {
-                            partSummary.setPartNumber(Integer.valueOf(partNum));
+                            partSummary.setPartNumber(Integer.parseInt(partNum));
                         }
                     } else if ("LastModified".equals(name)) {
-                        partSummary.setLastModified(DateUtil.parseIso8601Date(parser.nextText()));
+                        partSummary.setLastModifiedMillis(DateUtil.parseIso8601DateMillis(parser.nextText()));
                     } else if ("ETag".equals(name)) {
                         partSummary.setETag(parser.nextText());
                     } else if ("Size".equals(name)) {
                         String size = parser.nextText();
                         if (!OSSUtils.isEmptyString(size)) {
-                            partSummary.setSize(Long.valueOf(size));
+                            partSummary.setSize(Long.parseLong(size));
                         }
                     }
                     break;
@@ -164,7 +169,7 @@ public final class ResponseParsers {
 
     private static CompleteMultipartUploadResult parseCompleteMultipartUploadResponseXML(InputStream in, CompleteMultipartUploadResult result)
             throws Exception {
-        XmlPullParser parser = Xml.newPullParser();
+        XmlPullParser parser = obtainPullParser();
         parser.setInput(in, "utf-8");
         int eventType = parser.getEventType();
         while (eventType != XmlPullParser.END_DOCUMENT) {
@@ -194,7 +199,7 @@ public final class ResponseParsers {
 
     private static InitiateMultipartUploadResult parseInitMultipartResponseXML(InputStream in, InitiateMultipartUploadResult result)
             throws Exception {
-        XmlPullParser parser = Xml.newPullParser();
+        XmlPullParser parser = obtainPullParser();
         parser.setInput(in, "utf-8");
         int eventType = parser.getEventType();
         while (eventType != XmlPullParser.END_DOCUMENT) {
@@ -228,7 +233,7 @@ public final class ResponseParsers {
      */
     private static GetObjectACLResult parseGetObjectACLResponse(InputStream in, GetObjectACLResult result)
             throws Exception {
-        XmlPullParser parser = Xml.newPullParser();
+        XmlPullParser parser = obtainPullParser();
         parser.setInput(in, "utf-8");
         int eventType = parser.getEventType();
         while (eventType != XmlPullParser.END_DOCUMENT) {
@@ -262,7 +267,7 @@ public final class ResponseParsers {
      */
     private static GetBucketInfoResult parseGetBucketInfoResponse(InputStream in, GetBucketInfoResult result)
             throws Exception {
-        XmlPullParser parser = Xml.newPullParser();
+        XmlPullParser parser = obtainPullParser();
         parser.setInput(in, "utf-8");
         int eventType = parser.getEventType();
         OSSBucketSummary bucket = null;
@@ -352,7 +357,7 @@ public final class ResponseParsers {
      */
     private static GetBucketACLResult parseGetBucketACLResponse(InputStream in, GetBucketACLResult result)
             throws Exception {
-        XmlPullParser parser = Xml.newPullParser();
+        XmlPullParser parser = obtainPullParser();
         parser.setInput(in, "utf-8");
         int eventType = parser.getEventType();
         while (eventType != XmlPullParser.END_DOCUMENT) {
@@ -379,7 +384,7 @@ public final class ResponseParsers {
 
     private static DeleteMultipleObjectResult parseDeleteMultipleObjectResponse(InputStream in, DeleteMultipleObjectResult result)
             throws Exception {
-        XmlPullParser parser = Xml.newPullParser();
+        XmlPullParser parser = obtainPullParser();
         parser.setInput(in, "utf-8");
         int eventType = parser.getEventType();
         while (eventType != XmlPullParser.END_DOCUMENT) {
@@ -411,7 +416,7 @@ public final class ResponseParsers {
     private static ListBucketsResult parseBucketListResponse(InputStream in, ListBucketsResult result)
             throws Exception {
         result.clearBucketList();
-        XmlPullParser parser = Xml.newPullParser();
+        XmlPullParser parser = obtainPullParser();
         parser.setInput(in, "utf-8");
         int eventType = parser.getEventType();
         OSSBucketSummary bucket = null;
@@ -498,11 +503,15 @@ public final class ResponseParsers {
             throws Exception {
         result.clearCommonPrefixes();
         result.clearObjectSummaries();
-        XmlPullParser parser = Xml.newPullParser();
+        XmlPullParser parser = obtainPullParser();
         parser.setInput(in, "utf-8");
         int eventType = parser.getEventType();
         OSSObjectSummary object = null;
-        Owner owner = null;
+        String ownerId = null;
+        String ownerDisplayName = null;
+        Owner lastOwner = null;
+        // the storage classes, types and owners repeat over the entries, they are shared
+        Map<String, String> values = new HashMap<String, String>();
         boolean isCommonPrefixes = false;
         while (eventType != XmlPullParser.END_DOCUMENT) {
             switch (eventType) {
@@ -543,24 +552,25 @@ public final class ResponseParsers {
                     } else if ("Key".equals(name)) {
                         object.setKey(parser.nextText());
                     } else if ("LastModified".equals(name)) {
-                        object.setLastModified(DateUtil.parseIso8601Date(parser.nextText()));
+                        object.setLastModifiedMillis(DateUtil.parseIso8601DateMillis(parser.nextText()));
                     } else if ("Size".equals(name)) {
                         String size = parser.nextText();
                         if (!OSSUtils.isEmptyString(size)) {
-                            object.setSize(Long.valueOf(size));
+                            object.setSize(Long.parseLong(size));
                         }
                     } else if ("ETag".equals(name)) {
                         object.setETag(parser.nextText());
                     } else if ("Type".equals(name)) {
-                        object.setType(parser.nextText());
+                        object.setType(share(values, parser.nextText()));
                     } else if ("StorageClass".equals(name)) {
-                        object.setStorageClass(parser.nextText());
+                        object.setStorageClass(share(values, parser.nextText()));
                     } else if ("Owner".equals(name)) {
-                        owner = new Owner();
+                        ownerId = null;
+                        ownerDisplayName = null;
                     } else if ("ID".equals(name)) {
-                        owner.setId(parser.nextText());
+                        ownerId = share(values, parser.nextText());
                     } else if ("DisplayName".equals(name)) {
-                        owner.setDisplayName(parser.nextText());
+                        ownerDisplayName = share(values, parser.nextText());
                     } else if ("CommonPrefixes".equals(name)) {
                         isCommonPrefixes = true;
                     }
@@ -568,8 +578,12 @@ public final class ResponseParsers {
                 case XmlPullParser.END_TAG:
                     String endTagName = parser.getName();
                     if ("Owner".equals(parser.getName())) {
-                        if (owner != null) {
-                            object.setOwner(owner);
+                        if (object != null) {
+                            if (lastOwner == null || lastOwner.getId() != ownerId
+                                    || lastOwner.getDisplayName() != ownerDisplayName) {
+                                lastOwner = new Owner(ownerId, ownerDisplayName);
+                            }
+                            object.setOwner(lastOwner);
                         }
                     } else if ("Contents".equals(endTagName)) {
                         if (object != null) {
@@ -591,6 +605,49 @@ public final class ResponseParsers {
         return result;
     }
 
+    /**
+     * Returns the parser of the current thread, setInput resets it for the next document.
+     * {@link #releasePullParser()} must follow the parsing.
+     */
+    private static XmlPullParser obtainPullParser() {
+        XmlPullParser parser = PULL_PARSER.get();
+        if (parser == null) {
+            parser = Xml.newPullParser();
+            PULL_PARSER.set(parser);
+        }
+        return parser;
+    }
+
+    /**
+     * Drops the input of the current thread's parser, so it doesn't keep the response stream and its
+     * buffers until the next document
+     */
+    static void releasePullParser() {
+        XmlPullParser parser = PULL_PARSER.get();
+        if (parser != null) {
+            try {
+                parser.setInput((Reader) null);
+            } catch (XmlPullParserException e) {
+                PULL_PARSER.remove();
+            }
+        }
+    }
+
+    /**
+     * Returns the equal string seen before in the response, so the repeated values are stored once
+     */
+    private static String share(Map<String, String> values, String value) {
+        if (value == null) {
+            return null;
+        }
+        String shared = values.get(value);
+        if (shared == null) {
+            values.put(value, value);
+            shared = value;
+        }
+        return shared;
+    }
+
     public static String trimQuotes(String s) {
         if (s == null) return null;
 
@@ -653,7 +710,7 @@ public final class ResponseParsers {
                 errorMessage = response.getResponse().body().string();
                 OSSLog.logDebug("errorMessage  ： " + " \n " +  errorMessage);
                 InputStream inputStream = new ByteArrayInputStream(errorMessage.getBytes());
-                XmlPullParser parser = Xml.newPullParser();
+                XmlPullParser parser = obtainPullParser();
                 parser.setInput(inputStream, "utf-8");
                 int eventType = parser.getEventType();
                 while (eventType != XmlPullParser.END_DOCUMENT) {
@@ -684,6 +741,8 @@ public final class ResponseParsers {
                 throw new ClientException(e);
             } catch (XmlPullParserException e) {
                 throw new ClientException(e);
+            } finally {
+                releasePullParser();
             }
         }
 
@@ -702,6 +761,11 @@ public final class ResponseParsers {
 
     public static final class PutObjectResponseParser extends AbstractResponseParser<PutObjectResult> {
 
+        @Override
+        PutObjectResult createResult() {
+            return new PutObjectResult();
+        }
+
         @Override
         public PutObjectResult parseData(ResponseMessage response, PutObjectResult result)
                 throws IOException {
@@ -716,6 +780,11 @@ public final class ResponseParsers {
 
     public static final class AppendObjectResponseParser extends AbstractResponseParser<AppendObjectResult> {
 
+        @Override
+        AppendObjectResult createResult() {
+            return new AppendObjectResult();
+        }
+
         @Override
         public AppendObjectResult parseData(ResponseMessage response, AppendObjectResult result) throws IOException {
             String nextPosition = response.getHeaders().get(OSSHeaders.OSS_NEXT_APPEND_POSITION);
@@ -729,6 +798,11 @@ public final class ResponseParsers {
 
     public static final class HeadObjectResponseParser extends AbstractResponseParser<HeadObjectResult> {
 
+        @Override
+        HeadObjectResult createResult() {
+            return new HeadObjectResult();
+        }
+
         @Override
         public HeadObjectResult parseData(ResponseMessage response, HeadObjectResult result) throws Exception {
             result.setMetadata(parseObjectMetadata(result.getResponseHeader()));
@@ -738,6 +812,11 @@ public final class ResponseParsers {
 
     public static final class GetObjectResponseParser extends AbstractResponseParser<GetObjectResult> {
 
+        @Override
+        GetObjectResult createResult() {
+            return new GetObjectResult();
+        }
+
         @Override
         public GetObjectResult parseData(ResponseMessage response, GetObjectResult result) throws Exception {
             result.setMetadata(parseObjectMetadata(result.getResponseHeader()));
@@ -761,6 +840,11 @@ public final class ResponseParsers {
 
     public static final class GetObjectACLResponseParser extends AbstractResponseParser<GetObjectACLResult> {
 
+        @Override
+        GetObjectACLResult createResult() {
+            return new GetObjectACLResult();
+        }
+
         @Override
         GetObjectACLResult parseData(ResponseMessage response, GetObjectACLResult result) throws Exception {
             result = parseGetObjectACLResponse(response.getContent(), result);
@@ -770,6 +854,11 @@ public final class ResponseParsers {
 
     public static final class CopyObjectResponseParser extends AbstractResponseParser<CopyObjectResult> {
 
+        @Override
+        CopyObjectResult createResult() {
+            return new CopyObjectResult();
+        }
+
         @Override
         public CopyObjectResult parseData(ResponseMessage response, CopyObjectResult result) throws Exception {
             result = parseCopyObjectResponseXML(response.getContent(), result);
@@ -779,6 +868,11 @@ public final class ResponseParsers {
 
     public static final class CreateBucketResponseParser extends AbstractResponseParser<CreateBucketResult> {
 
+        @Override
+        CreateBucketResult createResult() {
+            return new CreateBucketResult();
+        }
+
         @Override
         public CreateBucketResult parseData(ResponseMessage response, CreateBucketResult result) throws Exception {
             if (result.getResponseHeader().containsKey("Location")) {
@@ -790,6 +884,11 @@ public final class ResponseParsers {
 
     public static final class DeleteBucketResponseParser extends AbstractResponseParser<DeleteBucketResult> {
 
+        @Override
+        DeleteBucketResult createResult() {
+            return new DeleteBucketResult();
+        }
+
         @Override
         public DeleteBucketResult parseData(ResponseMessage response, DeleteBucketResult result) throws Exception {
             return result;
@@ -798,6 +897,11 @@ public final class ResponseParsers {
 
     public static final class GetBucketInfoResponseParser extends AbstractResponseParser<GetBucketInfoResult> {
 
+        @Override
+        GetBucketInfoResult createResult() {
+            return new GetBucketInfoResult();
+        }
+
         @Override
         public GetBucketInfoResult parseData(ResponseMessage response, GetBucketInfoResult result) throws Exception {
             result = parseGetBucketInfoResponse(response.getContent(), result);
@@ -807,6 +911,11 @@ public final class ResponseParsers {
 
     public static final class GetBucketACLResponseParser extends AbstractResponseParser<GetBucketACLResult> {
 
+        @Override
+        GetBucketACLResult createResult() {
+            return new GetBucketACLResult();
+        }
+
         @Override
         public GetBucketACLResult parseData(ResponseMessage response, GetBucketACLResult result) throws Exception {
             result = parseGetBucketACLResponse(response.getContent(), result);
@@ -816,6 +925,11 @@ public final class ResponseParsers {
 
     public static final class DeleteObjectResponseParser extends AbstractResponseParser<DeleteObjectResult> {
 
+        @Override
+        DeleteObjectResult createResult() {
+            return new DeleteObjectResult();
+        }
+
         @Override
         public DeleteObjectResult parseData(ResponseMessage response, DeleteObjectResult result) throws Exception {
             return result;
@@ -824,6 +938,11 @@ public final class ResponseParsers {
 
     public static final class DeleteMultipleObjectResponseParser extends AbstractResponseParser<DeleteMultipleObjectResult> {
 
+        @Override
+        DeleteMultipleObjectResult createResult() {
+            return new DeleteMultipleObjectResult();
+        }
+
         @Override
         DeleteMultipleObjectResult parseData(ResponseMessage response, DeleteMultipleObjectResult result) throws Exception {
             result = parseDeleteMultipleObjectResponse(response.getContent(), result);
@@ -833,6 +952,11 @@ public final class ResponseParsers {
 
     public static final class ListObjectsResponseParser extends AbstractResponseParser<ListObjectsResult> {
 
+        @Override
+        ListObjectsResult createResult() {
+            return new ListObjectsResult();
+        }
+
         @Override
         public ListObjectsResult parseData(ResponseMessage response, ListObjectsResult result) throws Exception {
             result = parseObjectListResponse(response.getContent(), result);
@@ -842,6 +966,11 @@ public final class ResponseParsers {
 
     public static final class ListBucketResponseParser extends AbstractResponseParser<ListBucketsResult> {
 
+        @Override
+        ListBucketsResult createResult() {
+            return new ListBucketsResult();
+        }
+
         @Override
         ListBucketsResult parseData(ResponseMessage response, ListBucketsResult result) throws Exception {
             result = parseBucketListResponse(response.getContent(), result);
@@ -851,6 +980,11 @@ public final class ResponseParsers {
 
     public static final class InitMultipartResponseParser extends AbstractResponseParser<InitiateMultipartUploadResult> {
 
+        @Override
+        InitiateMultipartUploadResult createResult() {
+            return new InitiateMultipartUploadResult();
+        }
+
         @Override
         public InitiateMultipartUploadResult parseData(ResponseMessage response, InitiateMultipartUploadResult result) throws Exception {
             return parseInitMultipartResponseXML(response.getContent(), result);
@@ -859,6 +993,11 @@ public final class ResponseParsers {
 
     public static final class UploadPartResponseParser extends AbstractResponseParser<UploadPartResult> {
 
+        @Override
+        UploadPartResult createResult() {
+            return new UploadPartResult();
+        }
+
         @Override
         public UploadPartResult parseData(ResponseMessage response, UploadPartResult result) throws Exception {
             result.setETag(trimQuotes(response.getHeaders().get(OSSHeaders.ETAG)));
@@ -868,6 +1007,11 @@ public final class ResponseParsers {
 
     public static final class AbortMultipartUploadResponseParser extends AbstractResponseParser<AbortMultipartUploadResult> {
 
+        @Override
+        AbortMultipartUploadResult createResult() {
+            return new AbortMultipartUploadResult();
+        }
+
         @Override
         public AbortMultipartUploadResult parseData(ResponseMessage response, AbortMultipartUploadResult result) throws Exception {
             return result;
@@ -876,6 +1020,11 @@ public final class ResponseParsers {
 
     public static final class CompleteMultipartUploadResponseParser extends AbstractResponseParser<CompleteMultipartUploadResult> {
 
+        @Override
+        CompleteMultipartUploadResult createResult() {
+            return new CompleteMultipartUploadResult();
+        }
+
         @Override
         public CompleteMultipartUploadResult parseData(ResponseMessage response, CompleteMultipartUploadResult result) throws Exception {
             if (response.getHeaders().get(OSSHeaders.CONTENT_TYPE).equals("application/xml")) {
@@ -892,6 +1041,11 @@ public final class ResponseParsers {
 
     public static final class ListPartsResponseParser extends AbstractResponseParser<ListPartsResult> {
 
+        @Override
+        ListPartsResult createResult() {
+            return new ListPartsResult();
+        }
+
         @Override
         public ListPartsResult parseData(ResponseMessage response, ListPartsResult result) throws Exception {
             result = parseListPartsResponseXML(response.getContent(), result);
@@ -901,6 +1055,11 @@ public final class ResponseParsers {
 
     public static final class ListMultipartUploadsResponseParser extends AbstractResponseParser<ListMultipartUploadsResult> {
 
+        @Override
+        ListMultipartUploadsResult createResult() {
+            return new ListMultipartUploadsResult();
+        }
+
         @Override
         public ListMultipartUploadsResult parseData(ResponseMessage response, ListMultipartUploadsResult result) throws Exception {
             return result.parseData(response);
@@ -909,6 +1068,11 @@ public final class ResponseParsers {
 
     public static final class TriggerCallbackResponseParser extends AbstractResponseParser<TriggerCallbackResult> {
 
+        @Override
+        TriggerCallbackResult createResult() {
+            return new TriggerCallbackResult();
+        }
+
         @Override
         public TriggerCallbackResult parseData(ResponseMessage response, TriggerCallbackResult result) throws Exception {
             String body = response.getResponse().body().string();
@@ -921,6 +1085,11 @@ public final class ResponseParsers {
 
     public static final class ImagePersistResponseParser extends AbstractResponseParser<ImagePersistResult> {
 
+        @Override
+        ImagePersistResult createResult() {
+            return new ImagePersistResult();
+        }
+
         @Override
         public ImagePersistResult parseData(ResponseMessage response, ImagePersistResult result) throws Exception {
             return result;
@@ -929,6 +1098,11 @@ public final class ResponseParsers {
 
     public static final class PutSymlinkResponseParser extends AbstractResponseParser<PutSymlinkResult> {
 
+        @Override
+        PutSymlinkResult createResult() {
+            return new PutSymlinkResult();
+        }
+
         @Override
         PutSymlinkResult parseData(ResponseMessage response, PutSymlinkResult result) throws Exception {
             return result;
@@ -937,6 +1111,11 @@ public final class ResponseParsers {
 
     public static final class GetSymlinkResponseParser extends AbstractResponseParser<GetSymlinkResult> {
 
+        @Override
+        GetSymlinkResult createResult() {
+            return new GetSymlinkResult();
+        }
+
         @Override
         GetSymlinkResult parseData(ResponseMessage response, GetSymlinkResult result) throws Exception {
             result.setTargetObjectName(response.getHeaders().get(OSSHeaders.OSS_HEADER_SYMLINK_TARGET));
@@ -946,6 +1125,11 @@ public final class ResponseParsers {
 
     public static final class RestoreObjectResponseParser extends AbstractResponseParser<RestoreObjectResult> {
 
+        @Override
+        RestoreObjectResult createResult() {
+            return new RestoreObjectResult();
+        }
+
         @Override
         RestoreObjectResult parseData(ResponseMessage response, RestoreObjectResult result) throws Exception {
             return result;
@@ -199,9 +199,7 @@ public class ResumableUploadTask extends BaseMultipartUploadTask<ResumableUpload
                 revertUploadedLength = Long.valueOf(mSp.getStringValue(mUploadId));
             }
 
-            if (mProgressCallback != null) {
-                mProgressCallback.onProgress(mRequest, revertUploadedLength, mFileLength);
-            }
+            onProgressCallback(mRequest, revertUploadedLength, mFileLength);
 
             mSp.removeKey(mUploadId);
         }
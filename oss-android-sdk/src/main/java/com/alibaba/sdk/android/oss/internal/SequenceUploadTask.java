@@ -40,9 +40,12 @@ import java.io.ObjectOutputStream;
 import java.io.RandomAccessFile;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.zip.CheckedInputStream;
 
 /**
@@ -52,6 +55,10 @@ import java.util.zip.CheckedInputStream;
 public class SequenceUploadTask extends BaseMultipartUploadTask<ResumableUploadRequest,
         ResumableUploadResult> implements Callable<ResumableUploadResult> {
 
+    // parts prepared ahead of the uploading one, and the memory they may hold at most
+    private static final int READ_AHEAD_PART_COUNT = 2;
+    private static final long READ_AHEAD_MAX_BYTES = 8 * 1024 * 1024;
+
     private File mRecordFile;
     private List<Integer> mAlreadyUploadIndex = new ArrayList<Integer>();
     private long mFirstPartSize;
@@ -209,13 +216,13 @@ public class SequenceUploadTask extends BaseMultipartUploadTask<ResumableUploadR
                 revertUploadedLength = Long.valueOf(mSp.getStringValue(mUploadId));
             }
 
-            if (mProgressCallback != null) {
-                mProgressCallback.onProgress(mRequest, revertUploadedLength, mFileLength);
-            }
+            onProgressCallback(mRequest, revertUploadedLength, mFileLength);
 
             mSp.removeKey(mUploadId);
         }
 
+        // collect the parts that still need to be uploaded, in order
+        List<int[]> pendingParts = new ArrayList<int[]>();
         for (int i = 0; i < partNumber; i++) {
 
             if (mAlreadyUploadIndex.size() != 0 && mAlreadyUploadIndex.contains(i + 1)) {
@@ -227,14 +234,47 @@ public class SequenceUploadTask extends BaseMultipartUploadTask<ResumableUploadR
                 readByte = (int) (mFileLength - tempUploadedLength);
             }
             OSSLog.logDebug("upload part readByte : " + readByte);
-            int byteCount = readByte;
-            int readIndex = i;
-            tempUploadedLength += byteCount;
-            uploadPart(readIndex, byteCount, partNumber);
-            //break immediately for sequence upload
-            if (mUploadException != null){
-                break;
+            tempUploadedLength += readByte;
+            pendingParts.add(new int[]{i, readByte});
+        }
+
+        // read ahead the next parts (read + md5) while the current one is on the wire
+        int readAheadCount = calculateReadAheadCount(mPartAttr[0]);
+        LinkedList<Future<PreparedPart>> preparedParts = new LinkedList<Future<PreparedPart>>();
+        int nextPrepareIndex = 0;
+        try {
+            for (int i = 0; i < pendingParts.size(); i++) {
+                // stop reading ahead, the finally drops the parts read already
+                if (mContext.getCancellationHandler().isCancelled()) {
+                    TaskCancelException e = new TaskCancelException("sequence upload task cancel");
+                    processException(new ClientException(e.getMessage(), e, true));
+                    break;
+                }
+                while (nextPrepareIndex < pendingParts.size() && preparedParts.size() <= readAheadCount) {
+                    int[] part = pendingParts.get(nextPrepareIndex++);
+                    preparedParts.add(mPoolExecutor.submit(new PreparePartCallable(part[0], part[1])));
+                }
+
+                int[] part = pendingParts.get(i);
+                PreparedPart preparedPart = null;
+                try {
+                    preparedPart = preparedParts.removeFirst().get();
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    processException(cause instanceof Exception ? (Exception) cause : e);
+                    break;
+                }
+                uploadPart(part[0], part[1], partNumber, preparedPart);
+                //break immediately for sequence upload
+                if (mUploadException != null) {
+                    break;
+                }
+            }
+        } finally {
+            for (Future<PreparedPart> future : preparedParts) {
+                future.cancel(true);
             }
+            releasePool();
         }
 
         checkException();
@@ -254,9 +294,17 @@ public class SequenceUploadTask extends BaseMultipartUploadTask<ResumableUploadR
     }
 
     public void uploadPart(int readIndex, int byteCount, int partNumber) {
+        try {
+            uploadPart(readIndex, byteCount, partNumber, readPart(readIndex, byteCount));
+        } catch (IOException e) {
+            processException(e);
+        }
+    }
+
+    private void uploadPart(int readIndex, int byteCount, int partNumber, PreparedPart preparedPart) {
 
-        RandomAccessFile raf = null;
         UploadPartRequest uploadPartRequest = null;
+        PartProgress partProgress = new PartProgress();
         try {
 
             if (mContext.getCancellationHandler().isCancelled()) {
@@ -267,17 +315,15 @@ public class SequenceUploadTask extends BaseMultipartUploadTask<ResumableUploadR
 
             preUploadPart(readIndex, byteCount, partNumber);
 
-            raf = new RandomAccessFile(mUploadFile, "r");
-
             uploadPartRequest = new UploadPartRequest(
                     mRequest.getBucketName(), mRequest.getObjectKey(), mUploadId, readIndex + 1);
-            long skip = readIndex * mRequest.getPartSize();
-            byte[] partContent = new byte[byteCount];
-            raf.seek(skip);
-            raf.readFully(partContent, 0, byteCount);
-            uploadPartRequest.setPartContent(partContent);
-            uploadPartRequest.setMd5Digest(BinaryUtil.calculateBase64Md5(partContent));
+            uploadPartRequest.setPartContent(preparedPart.content);
+            uploadPartRequest.setMd5Digest(preparedPart.md5Digest);
             uploadPartRequest.setCRC64(mRequest.getCRC64());
+            uploadPartRequest.setProgressCallback(partProgress);
+            if (mRequest.getBandwidthLimiter() != null) {
+                mRequest.getBandwidthLimiter().acquire(byteCount);
+            }
             UploadPartResult uploadPartResult = mApiOperation.syncUploadPart(uploadPartRequest);
             //check isComplete，throw exception when error occur
             PartETag partETag = new PartETag(uploadPartRequest.getPartNumber(), uploadPartResult.getETag());
@@ -287,6 +333,7 @@ public class SequenceUploadTask extends BaseMultipartUploadTask<ResumableUploadR
             }
 
             mPartETags.add(partETag);
+            partProgress.finish();
             mUploadedLength += byteCount;
 
             uploadPartFinish(partETag);
@@ -299,6 +346,7 @@ public class SequenceUploadTask extends BaseMultipartUploadTask<ResumableUploadR
                 onProgressCallback(mRequest, mUploadedLength, mFileLength);
             }
         } catch (ServiceException e) {
+            partProgress.finish();
             // it is not necessary to throw 409 PartAlreadyExist exception out
             if (e.getStatusCode() != 409) {
                 processException(e);
@@ -317,7 +365,23 @@ public class SequenceUploadTask extends BaseMultipartUploadTask<ResumableUploadR
                 mUploadedLength += byteCount;
             }
         } catch (Exception e) {
+            partProgress.finish();
             processException(e);
+        }
+    }
+
+    /**
+     * read the part content from the upload file and calculate its md5
+     */
+    private PreparedPart readPart(int readIndex, int byteCount) throws IOException {
+        RandomAccessFile raf = null;
+        try {
+            raf = new RandomAccessFile(mUploadFile, "r");
+            long skip = readIndex * mRequest.getPartSize();
+            byte[] partContent = new byte[byteCount];
+            raf.seek(skip);
+            raf.readFully(partContent, 0, byteCount);
+            return new PreparedPart(partContent, BinaryUtil.calculateBase64Md5(partContent));
         } finally {
             try {
                 if (raf != null)
@@ -328,6 +392,42 @@ public class SequenceUploadTask extends BaseMultipartUploadTask<ResumableUploadR
         }
     }
 
+    /**
+     * how many parts can be prepared ahead of the one being uploaded, bounded by memory
+     */
+    private int calculateReadAheadCount(int partSize) {
+        if (partSize <= 0) {
+            return 0;
+        }
+        long count = READ_AHEAD_MAX_BYTES / partSize;
+        return (int) Math.max(0, Math.min(READ_AHEAD_PART_COUNT, count));
+    }
+
+    private static class PreparedPart {
+        private final byte[] content;
+        private final String md5Digest;
+
+        PreparedPart(byte[] content, String md5Digest) {
+            this.content = content;
+            this.md5Digest = md5Digest;
+        }
+    }
+
+    private class PreparePartCallable implements Callable<PreparedPart> {
+        private final int readIndex;
+        private final int byteCount;
+
+        PreparePartCallable(int readIndex, int byteCount) {
+            this.readIndex = readIndex;
+            this.byteCount = byteCount;
+        }
+
+        @Override
+        public PreparedPart call() throws Exception {
+            return readPart(readIndex, byteCount);
+        }
+    }
+
 
     @Override
     protected void checkException() throws IOException, ServiceException, ClientException {
@@ -0,0 +1,387 @@
+package com.alibaba.sdk.android.oss.internal;
+
+import com.alibaba.sdk.android.oss.ClientConfiguration;
+import com.alibaba.sdk.android.oss.ClientException;
+import com.alibaba.sdk.android.oss.ServiceException;
+import com.alibaba.sdk.android.oss.TaskCancelException;
+import com.alibaba.sdk.android.oss.callback.OSSCompletedCallback;
+import com.alibaba.sdk.android.oss.callback.OSSProgressCallback;
+import com.alibaba.sdk.android.oss.common.OSSLog;
+import com.alibaba.sdk.android.oss.common.utils.BinaryUtil;
+import com.alibaba.sdk.android.oss.model.AbortMultipartUploadRequest;
+import com.alibaba.sdk.android.oss.model.CompleteMultipartUploadRequest;
+import com.alibaba.sdk.android.oss.model.CompleteMultipartUploadResult;
+import com.alibaba.sdk.android.oss.model.InitiateMultipartUploadRequest;
+import com.alibaba.sdk.android.oss.model.InitiateMultipartUploadResult;
+import com.alibaba.sdk.android.oss.model.OSSRequest;
+import com.alibaba.sdk.android.oss.model.PartETag;
+import com.alibaba.sdk.android.oss.model.PutObjectRequest;
+import com.alibaba.sdk.android.oss.model.PutObjectResult;
+import com.alibaba.sdk.android.oss.model.StreamUploadRequest;
+import com.alibaba.sdk.android.oss.model.StreamUploadResult;
+import com.alibaba.sdk.android.oss.model.UploadPartRequest;
+import com.alibaba.sdk.android.oss.model.UploadPartResult;
+import com.alibaba.sdk.android.oss.network.ExecutionContext;
+import com.alibaba.sdk.android.oss.network.ProgressDispatcher;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Uploads an InputStream of unknown length.
+ * <p>
+ * The first part size of the stream is buffered, a stream that ends within it is sent by PutObject.
+ * Otherwise the parts are uploaded by a multipart upload while the following ones are read, and at
+ * most concurrency parts are in flight at a time.
+ */
+public class StreamUploadTask implements Callable<StreamUploadResult> {
+
+    private static final int MAX_PART_NUMBER = 5000;
+    private static final int MIN_PART_SIZE = 100 * 1024;
+
+    private InternalRequestOperation mApiOperation;
+    private StreamUploadRequest mRequest;
+    private OSSCompletedCallback<StreamUploadRequest, StreamUploadResult> mCompletedCallback;
+    private OSSProgressCallback<StreamUploadRequest> mProgressCallback;
+    private ProgressDispatcher<StreamUploadRequest> mProgressDispatcher;
+    private ExecutionContext mContext;
+    private boolean mCheckCRC64;
+
+    private final Object mLock = new Object();
+    private List<PartETag> mPartETags = new ArrayList<PartETag>();
+    private Exception mUploadException;
+    private long mUploadedLength;
+    private final AtomicLong mInFlightLength = new AtomicLong();
+    private String mUploadId;
+
+    public StreamUploadTask(InternalRequestOperation operation, StreamUploadRequest request,
+                            OSSCompletedCallback<StreamUploadRequest, StreamUploadResult> completedCallback,
+                            ExecutionContext context) {
+        mApiOperation = operation;
+        mRequest = request;
+        mProgressCallback = request.getProgressCallback();
+        mCompletedCallback = completedCallback;
+        mContext = context;
+        mCheckCRC64 = (request.getCRC64() == OSSRequest.CRC64Config.YES);
+        ClientConfiguration conf = operation.getConf();
+        mProgressDispatcher = new ProgressDispatcher<StreamUploadRequest>(request, mProgressCallback,
+                conf != null ? conf.getProgressInterval() : 0,
+                conf != null ? conf.getProgressByteStep() : 0,
+                conf != null ? conf.getProgressCallbackExecutor() : null);
+    }
+
+    @Override
+    public StreamUploadResult call() throws Exception {
+        try {
+            StreamUploadResult result = doStreamUpload();
+            if (mCompletedCallback != null) {
+                mCompletedCallback.onSuccess(mRequest, result);
+            }
+            return result;
+        } catch (ServiceException e) {
+            if (mCompletedCallback != null) {
+                mCompletedCallback.onFailure(mRequest, null, e);
+            }
+            throw e;
+        } catch (Exception e) {
+            ClientException temp;
+            if (e instanceof ClientException) {
+                temp = (ClientException) e;
+            } else {
+                temp = new ClientException(e.toString(), e);
+            }
+            if (mCompletedCallback != null) {
+                mCompletedCallback.onFailure(mRequest, temp, null);
+            }
+            throw temp;
+        }
+    }
+
+    private StreamUploadResult doStreamUpload() throws Exception {
+        InputStream input = mRequest.getUploadStream();
+        if (input == null) {
+            throw new ClientException("upload stream must not be null");
+        }
+        long partSize = mRequest.getPartSize();
+        if (partSize < MIN_PART_SIZE) {
+            throw new ClientException("Part size must be greater than or equal to 100KB!");
+        }
+
+        checkCancel();
+
+        byte[] firstPart = new byte[(int) partSize];
+        int firstLength = readFully(input, firstPart);
+        if (firstLength == 0) {
+            throw new ClientException("the length of upload stream is 0!");
+        }
+        if (firstLength < partSize || isEndOfStream(input)) {
+            return putObject(Arrays.copyOf(firstPart, firstLength));
+        }
+
+        InitiateMultipartUploadRequest init = new InitiateMultipartUploadRequest(
+                mRequest.getBucketName(), mRequest.getObjectKey(), mRequest.getMetadata());
+        InitiateMultipartUploadResult initResult = mApiOperation.initMultipartUpload(init, null).getResult();
+        mUploadId = initResult.getUploadId();
+        mRequest.setUploadId(mUploadId);
+
+        int concurrency = mRequest.getConcurrency();
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency, new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                return new Thread(runnable, "oss-android-stream-upload-thread");
+            }
+        });
+        // one permit per part buffer in flight, the reading buffer is not counted
+        final Semaphore inFlight = new Semaphore(concurrency);
+        long totalSize = 0;
+        try {
+            byte[] part = firstPart;
+            int length = firstLength;
+            int partNumber = 1;
+            while (length > 0) {
+                if (partNumber > MAX_PART_NUMBER) {
+                    throw new ClientException("The stream is too large for part size " + partSize
+                            + ", the part number exceeds " + MAX_PART_NUMBER);
+                }
+                inFlight.acquire();
+                checkUploadState();
+                totalSize += length;
+                final byte[] content = length == part.length ? part : Arrays.copyOf(part, length);
+                final int number = partNumber;
+                executor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            uploadPart(number, content);
+                        } finally {
+                            inFlight.release();
+                        }
+                    }
+                });
+
+                partNumber++;
+                part = new byte[(int) partSize];
+                length = readFully(input, part);
+            }
+            // wait for all the parts
+            inFlight.acquire(concurrency);
+            inFlight.release(concurrency);
+            checkUploadState();
+
+            CompleteMultipartUploadResult completeResult = completeMultipartUpload();
+            onProgressCallback(totalSize, totalSize);
+            return new StreamUploadResult(completeResult, totalSize);
+        } catch (Exception e) {
+            // the parts still running would upload into the aborted upload otherwise
+            executor.shutdownNow();
+            awaitTermination(executor);
+            abortThisUpload();
+            throw e;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void awaitTermination(ExecutorService executor) {
+        try {
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private StreamUploadResult putObject(byte[] content) throws ClientException, ServiceException {
+        PutObjectRequest put = new PutObjectRequest(mRequest.getBucketName(), mRequest.getObjectKey(),
+                content, mRequest.getMetadata());
+        put.setCallbackParam(mRequest.getCallbackParam());
+        put.setCallbackVars(mRequest.getCallbackVars());
+        put.setCRC64(mRequest.getCRC64());
+        if (mProgressCallback != null) {
+            put.setProgressCallback(new OSSProgressCallback<PutObjectRequest>() {
+                @Override
+                public void onProgress(PutObjectRequest request, long currentSize, long totalSize) {
+                    onProgressCallback(currentSize, totalSize);
+                }
+            });
+        }
+        PutObjectResult putResult = mApiOperation.syncPutObject(put);
+        return new StreamUploadResult(mRequest.getBucketName(), mRequest.getObjectKey(), putResult, content.length);
+    }
+
+    private void uploadPart(int partNumber, byte[] content) {
+        PartProgress partProgress = new PartProgress();
+        try {
+            if (mContext.getCancellationHandler().isCancelled()) {
+                return;
+            }
+            synchronized (mLock) {
+                if (mUploadException != null) {
+                    return;
+                }
+            }
+            UploadPartRequest uploadPart = new UploadPartRequest(
+                    mRequest.getBucketName(), mRequest.getObjectKey(), mUploadId, partNumber);
+            uploadPart.setPartContent(content);
+            uploadPart.setMd5Digest(BinaryUtil.calculateBase64Md5(content));
+            uploadPart.setCRC64(mRequest.getCRC64());
+            uploadPart.setProgressCallback(partProgress);
+            if (mRequest.getBandwidthLimiter() != null) {
+                mRequest.getBandwidthLimiter().acquire(content.length);
+            }
+            // cancelling the task cancels the parts in flight
+            UploadPartResult uploadPartResult = mApiOperation.syncUploadPart(uploadPart,
+                    mContext.getCancellationHandler());
+
+            long uploadedLength;
+            partProgress.finish();
+            synchronized (mLock) {
+                PartETag partETag = new PartETag(partNumber, uploadPartResult.getETag());
+                partETag.setPartSize(content.length);
+                if (mCheckCRC64) {
+                    partETag.setCRC64(uploadPartResult.getClientCRC());
+                }
+                mPartETags.add(partETag);
+                mUploadedLength += content.length;
+                uploadedLength = mUploadedLength + mInFlightLength.get();
+            }
+            // the total size stays unknown until the stream ends
+            onProgressCallback(uploadedLength, -1);
+        } catch (Exception e) {
+            partProgress.finish();
+            OSSLog.logThrowable2Local(e);
+            synchronized (mLock) {
+                if (mUploadException == null) {
+                    mUploadException = e;
+                }
+            }
+        }
+    }
+
+    private CompleteMultipartUploadResult completeMultipartUpload() throws ClientException, ServiceException {
+        Collections.sort(mPartETags, new Comparator<PartETag>() {
+            @Override
+            public int compare(PartETag lhs, PartETag rhs) {
+                if (lhs.getPartNumber() < rhs.getPartNumber()) {
+                    return -1;
+                } else if (lhs.getPartNumber() > rhs.getPartNumber()) {
+                    return 1;
+                } else {
+                    return 0;
+                }
+            }
+        });
+
+        CompleteMultipartUploadRequest complete = new CompleteMultipartUploadRequest(
+                mRequest.getBucketName(), mRequest.getObjectKey(), mUploadId, mPartETags);
+        complete.setMetadata(mRequest.getMetadata());
+        if (mRequest.getCallbackParam() != null) {
+            complete.setCallbackParam(mRequest.getCallbackParam());
+        }
+        if (mRequest.getCallbackVars() != null) {
+            complete.setCallbackVars(mRequest.getCallbackVars());
+        }
+        complete.setCRC64(mRequest.getCRC64());
+        return mApiOperation.syncCompleteMultipartUpload(complete);
+    }
+
+    private void abortThisUpload() {
+        if (mUploadId != null) {
+            AbortMultipartUploadRequest abort = new AbortMultipartUploadRequest(
+                    mRequest.getBucketName(), mRequest.getObjectKey(), mUploadId);
+            mApiOperation.abortMultipartUpload(abort, null).waitUntilFinished();
+        }
+    }
+
+    private void checkCancel() throws ClientException {
+        if (mContext.getCancellationHandler().isCancelled()) {
+            TaskCancelException e = new TaskCancelException("stream upload cancel");
+            throw new ClientException(e.getMessage(), e, true);
+        }
+    }
+
+    private void checkUploadState() throws Exception {
+        checkCancel();
+        synchronized (mLock) {
+            if (mUploadException != null) {
+                throw mUploadException;
+            }
+        }
+    }
+
+    private void onProgressCallback(long currentSize, long totalSize) {
+        mProgressDispatcher.update(currentSize, totalSize);
+    }
+
+    /**
+     * Counts the bytes sent of one part into the task's progress, until the part is finished
+     */
+    private class PartProgress implements OSSProgressCallback<UploadPartRequest> {
+
+        private long sentLength;
+        private boolean finished;
+
+        @Override
+        public synchronized void onProgress(UploadPartRequest request, long currentSize, long totalSize) {
+            if (finished) {
+                return;
+            }
+            // a retried part starts over from 0
+            long inFlight = mInFlightLength.addAndGet(currentSize - sentLength);
+            sentLength = currentSize;
+            long uploadedLength;
+            synchronized (mLock) {
+                uploadedLength = mUploadedLength;
+            }
+            onProgressCallback(uploadedLength + inFlight, -1);
+        }
+
+        /**
+         * Takes the part's bytes out of the in flight ones, the caller counts a completed part
+         */
+        public synchronized void finish() {
+            if (!finished) {
+                finished = true;
+                mInFlightLength.addAndGet(-sentLength);
+            }
+        }
+    }
+
+    /**
+     * reads until the buffer is full or the stream ends
+     *
+     * @return the count of bytes read
+     */
+    private static int readFully(InputStream input, byte[] buffer) throws IOException {
+        int total = 0;
+        while (total < buffer.length) {
+            int read = input.read(buffer, total, buffer.length - total);
+            if (read == -1) {
+                break;
+            }
+            total += read;
+        }
+        return total;
+    }
+
+    private static boolean isEndOfStream(InputStream input) throws IOException {
+        if (!input.markSupported()) {
+            return false;
+        }
+        input.mark(1);
+        int next = input.read();
+        input.reset();
+        return next == -1;
+    }
+}
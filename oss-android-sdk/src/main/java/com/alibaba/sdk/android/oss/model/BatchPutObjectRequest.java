@@ -0,0 +1,147 @@
+package com.alibaba.sdk.android.oss.model;
+
+import com.alibaba.sdk.android.oss.callback.OSSCompletedCallback;
+import com.alibaba.sdk.android.oss.callback.OSSProgressCallback;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The request class definition of uploading many small objects in one batch
+ * <p>
+ * The objects are uploaded with a bounded concurrency, the ones with higher priority first and the
+ * ones with the same priority in the order they are added. The progress callback reports the
+ * aggregated progress of the whole batch, while the item callback reports every object's result.
+ */
+public class BatchPutObjectRequest extends OSSRequest {
+
+    private String bucketName;
+
+    private List<Item> items = new ArrayList<Item>();
+
+    private int concurrency = 5;
+
+    //run with not ui thread
+    private OSSProgressCallback<BatchPutObjectRequest> progressCallback;
+
+    //run with not ui thread
+    private OSSCompletedCallback<PutObjectRequest, PutObjectResult> itemCompletedCallback;
+
+    /**
+     * Constructor
+     *
+     * @param bucketName The bucket name of the files added by {@link #addFile(String, String)}
+     */
+    public BatchPutObjectRequest(String bucketName) {
+        setBucketName(bucketName);
+    }
+
+    public String getBucketName() {
+        return bucketName;
+    }
+
+    /**
+     * Sets the bucket name
+     */
+    public void setBucketName(String bucketName) {
+        this.bucketName = bucketName;
+    }
+
+    /**
+     * Adds a local file to upload with the normal priority 0
+     *
+     * @param objectKey      The object key
+     * @param uploadFilePath The local file path to upload from
+     * @return the PutObjectRequest created for the file, it could be customized further
+     */
+    public PutObjectRequest addFile(String objectKey, String uploadFilePath) {
+        PutObjectRequest request = new PutObjectRequest(bucketName, objectKey, uploadFilePath);
+        addRequest(request, 0);
+        return request;
+    }
+
+    /**
+     * Adds an upload request with the normal priority 0
+     */
+    public void addRequest(PutObjectRequest request) {
+        addRequest(request, 0);
+    }
+
+    /**
+     * Adds an upload request
+     *
+     * @param request  The upload request
+     * @param priority The higher the priority is, the earlier the object is uploaded
+     */
+    public void addRequest(PutObjectRequest request, int priority) {
+        items.add(new Item(request, priority, items.size()));
+    }
+
+    public List<Item> getItems() {
+        return Collections.unmodifiableList(items);
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    /**
+     * Sets how many objects are uploaded at the same time, by default it's 5
+     */
+    public void setConcurrency(int concurrency) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("Concurrency must be greater than 0!");
+        }
+        this.concurrency = concurrency;
+    }
+
+    public OSSProgressCallback<BatchPutObjectRequest> getProgressCallback() {
+        return progressCallback;
+    }
+
+    /**
+     * Sets the aggregated upload progress callback, the sizes are the sums over all objects
+     */
+    public void setProgressCallback(OSSProgressCallback<BatchPutObjectRequest> progressCallback) {
+        this.progressCallback = progressCallback;
+    }
+
+    public OSSCompletedCallback<PutObjectRequest, PutObjectResult> getItemCompletedCallback() {
+        return itemCompletedCallback;
+    }
+
+    /**
+     * Sets the callback invoked when each object's upload succeeds or fails
+     */
+    public void setItemCompletedCallback(OSSCompletedCallback<PutObjectRequest, PutObjectResult> itemCompletedCallback) {
+        this.itemCompletedCallback = itemCompletedCallback;
+    }
+
+    /**
+     * An upload request in the batch with its priority
+     */
+    public static class Item {
+        private final PutObjectRequest request;
+        private final int priority;
+        private final int sequence;
+
+        Item(PutObjectRequest request, int priority, int sequence) {
+            this.request = request;
+            this.priority = priority;
+            this.sequence = sequence;
+        }
+
+        public PutObjectRequest getRequest() {
+            return request;
+        }
+
+        public int getPriority() {
+            return priority;
+        }
+
+        public int getSequence() {
+            return sequence;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.alibaba.sdk.android.oss.model;
+
+import com.alibaba.sdk.android.oss.ClientException;
+import com.alibaba.sdk.android.oss.ServiceException;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The result class of a batch upload, it holds the result or the error of every object
+ */
+public class BatchPutObjectResult extends OSSResult {
+
+    private Map<PutObjectRequest, PutObjectResult> succeeded = new LinkedHashMap<PutObjectRequest, PutObjectResult>();
+
+    private Map<PutObjectRequest, Exception> failed = new LinkedHashMap<PutObjectRequest, Exception>();
+
+    public synchronized void addSucceeded(PutObjectRequest request, PutObjectResult result) {
+        succeeded.put(request, result);
+    }
+
+    public synchronized void addFailed(PutObjectRequest request, ClientException clientException, ServiceException serviceException) {
+        failed.put(request, clientException != null ? clientException : serviceException);
+    }
+
+    /**
+     * Gets the objects uploaded successfully, in completion order
+     */
+    public synchronized Map<PutObjectRequest, PutObjectResult> getSucceeded() {
+        return Collections.unmodifiableMap(new LinkedHashMap<PutObjectRequest, PutObjectResult>(succeeded));
+    }
+
+    /**
+     * Gets the objects failed to upload with their ClientException or ServiceException, in completion order
+     */
+    public synchronized Map<PutObjectRequest, Exception> getFailed() {
+        return Collections.unmodifiableMap(new LinkedHashMap<PutObjectRequest, Exception>(failed));
+    }
+
+    /**
+     * Checks if all objects are uploaded successfully
+     */
+    public synchronized boolean isAllSucceeded() {
+        return failed.isEmpty();
+    }
+}
@@ -2,6 +2,7 @@ package com.alibaba.sdk.android.oss.model;
 
 import com.alibaba.sdk.android.oss.callback.OSSProgressCallback;
 import com.alibaba.sdk.android.oss.common.OSSConstants;
+import com.alibaba.sdk.android.oss.common.utils.BandwidthLimiter;
 
 import java.util.Map;
 
@@ -20,6 +21,8 @@ public class MultipartUploadRequest<T extends MultipartUploadRequest> extends OS
 
     protected OSSProgressCallback<T> progressCallback;
 
+    protected BandwidthLimiter bandwidthLimiter;
+
     /**
      * Constructor
      *
@@ -151,4 +154,15 @@ public class MultipartUploadRequest<T extends MultipartUploadRequest> extends OS
     public void setUploadId(String uploadId) {
         this.uploadId = uploadId;
     }
+
+    public BandwidthLimiter getBandwidthLimiter() {
+        return bandwidthLimiter;
+    }
+
+    /**
+     * Sets the limiter every part takes its size from before it is sent, null for no limit
+     */
+    public void setBandwidthLimiter(BandwidthLimiter bandwidthLimiter) {
+        this.bandwidthLimiter = bandwidthLimiter;
+    }
 }
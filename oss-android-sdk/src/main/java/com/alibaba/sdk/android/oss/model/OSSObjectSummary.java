@@ -7,6 +7,8 @@ import java.util.Date;
  */
 public class OSSObjectSummary {
 
+    private static final long UNKNOWN_TIME = Long.MIN_VALUE;
+
     /**
      * The name of the bucket in which this object is stored
      */
@@ -23,7 +25,8 @@ public class OSSObjectSummary {
 
     private long size;
 
-    private Date lastModified;
+    // only the millis are kept, a listing holds many summaries
+    private long lastModifiedMillis = UNKNOWN_TIME;
 
     private String storageClass;
 
@@ -116,7 +119,7 @@ public class OSSObjectSummary {
      * @return The object's last modified time
      */
     public Date getLastModified() {
-        return lastModified;
+        return lastModifiedMillis == UNKNOWN_TIME ? null : new Date(lastModifiedMillis);
     }
 
     /**
@@ -125,7 +128,25 @@ public class OSSObjectSummary {
      * @param lastModified The object's last modified time
      */
     public void setLastModified(Date lastModified) {
-        this.lastModified = lastModified;
+        this.lastModifiedMillis = lastModified == null ? UNKNOWN_TIME : lastModified.getTime();
+    }
+
+    /**
+     * Gets the last modified time in milliseconds since the epoch, without creating a Date.
+     *
+     * @return The object's last modified time, Long.MIN_VALUE if it's unknown
+     */
+    public long getLastModifiedMillis() {
+        return lastModifiedMillis;
+    }
+
+    /**
+     * Sets the last modified time in milliseconds since the epoch.
+     *
+     * @param lastModifiedMillis The object's last modified time
+     */
+    public void setLastModifiedMillis(long lastModifiedMillis) {
+        this.lastModifiedMillis = lastModifiedMillis;
     }
 
     /**
@@ -0,0 +1,183 @@
+package com.alibaba.sdk.android.oss.model;
+
+import com.alibaba.sdk.android.oss.callback.OSSShardProgressCallback;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The request class definition of listing the objects of a prefix in parallel
+ * <p>
+ * The keyspace is split into shards which are listed concurrently, each one by following its
+ * markers. Without split keys the shards are the common prefixes found by listing the prefix with
+ * the delimiter, the objects directly under the prefix are listed by that first pass. With split
+ * keys every shard is the range between two of them, a key equal to a split key belongs to the
+ * shard ending at it.
+ */
+public class ParallelListObjectsRequest extends OSSRequest {
+
+    private static final int MAX_RETURNED_KEYS_LIMIT = 1000;
+
+    private String bucketName;
+
+    private String prefix;
+
+    private String delimiter = "/";
+
+    private List<String> splitKeys = new ArrayList<String>();
+
+    private int concurrency = 5;
+
+    private int maxKeys = MAX_RETURNED_KEYS_LIMIT;
+
+    private boolean ordered = true;
+
+    //run with not ui thread
+    private OSSShardProgressCallback shardProgressCallback;
+
+    public ParallelListObjectsRequest(String bucketName) {
+        this(bucketName, null);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param bucketName bucket name
+     * @param prefix     the prefix of the objects to list, null for the whole bucket
+     */
+    public ParallelListObjectsRequest(String bucketName, String prefix) {
+        setBucketName(bucketName);
+        setPrefix(prefix);
+    }
+
+    public String getBucketName() {
+        return bucketName;
+    }
+
+    public void setBucketName(String bucketName) {
+        this.bucketName = bucketName;
+    }
+
+    public String getPrefix() {
+        return prefix;
+    }
+
+    public void setPrefix(String prefix) {
+        this.prefix = prefix;
+    }
+
+    public String getDelimiter() {
+        return delimiter;
+    }
+
+    /**
+     * Sets the delimiter which discovers the shards when there are no split keys, by default it's "/"
+     */
+    public void setDelimiter(String delimiter) {
+        if (delimiter == null || delimiter.length() == 0) {
+            throw new IllegalArgumentException("Delimiter can't be empty.");
+        }
+        this.delimiter = delimiter;
+    }
+
+    public List<String> getSplitKeys() {
+        return Collections.unmodifiableList(splitKeys);
+    }
+
+    /**
+     * Sets the keys which split the keyspace into shards, instead of discovering them by the delimiter
+     */
+    public void setSplitKeys(List<String> splitKeys) {
+        this.splitKeys = new ArrayList<String>(splitKeys);
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    /**
+     * Sets how many shards are listed at the same time, by default it's 5
+     */
+    public void setConcurrency(int concurrency) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("Concurrency must be greater than 0!");
+        }
+        this.concurrency = concurrency;
+    }
+
+    public int getMaxKeys() {
+        return maxKeys;
+    }
+
+    /**
+     * Sets the page size of the listings, by default it's 1000 which is also the max value
+     */
+    public void setMaxKeys(int maxKeys) {
+        if (maxKeys < 1 || maxKeys > MAX_RETURNED_KEYS_LIMIT) {
+            throw new IllegalArgumentException("Maxkeys should be between 1 and 1000.");
+        }
+        this.maxKeys = maxKeys;
+    }
+
+    public boolean isOrdered() {
+        return ordered;
+    }
+
+    /**
+     * Sets whether the result is in key order, by default it's true. Otherwise the objects are in
+     * the order the pages arrived.
+     */
+    public void setOrdered(boolean ordered) {
+        this.ordered = ordered;
+    }
+
+    public OSSShardProgressCallback getShardProgressCallback() {
+        return shardProgressCallback;
+    }
+
+    public void setShardProgressCallback(OSSShardProgressCallback shardProgressCallback) {
+        this.shardProgressCallback = shardProgressCallback;
+    }
+
+    /**
+     * A part of the keyspace listed on its own
+     */
+    public static class Shard {
+        private final String prefix;
+        private final String startAfter;
+        private final String endAt;
+
+        public Shard(String prefix, String startAfter, String endAt) {
+            this.prefix = prefix;
+            this.startAfter = startAfter;
+            this.endAt = endAt;
+        }
+
+        /**
+         * The prefix of the keys in the shard
+         */
+        public String getPrefix() {
+            return prefix;
+        }
+
+        /**
+         * The keys in the shard are greater than this one, null for no lower bound
+         */
+        public String getStartAfter() {
+            return startAfter;
+        }
+
+        /**
+         * The keys in the shard are less than or equal to this one, null for no upper bound
+         */
+        public String getEndAt() {
+            return endAt;
+        }
+
+        @Override
+        public String toString() {
+            return "[" + prefix + ", " + startAfter + ", " + endAt + "]";
+        }
+    }
+}
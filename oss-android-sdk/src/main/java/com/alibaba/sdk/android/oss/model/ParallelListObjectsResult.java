@@ -0,0 +1,37 @@
+package com.alibaba.sdk.android.oss.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The result class of a parallel listing
+ */
+public class ParallelListObjectsResult extends OSSResult {
+
+    private List<OSSObjectSummary> objectSummaries = new ArrayList<OSSObjectSummary>();
+
+    private List<ParallelListObjectsRequest.Shard> shards = new ArrayList<ParallelListObjectsRequest.Shard>();
+
+    /**
+     * Gets the listed objects, in key order when the request is ordered
+     */
+    public List<OSSObjectSummary> getObjectSummaries() {
+        return Collections.unmodifiableList(objectSummaries);
+    }
+
+    public void setObjectSummaries(List<OSSObjectSummary> objectSummaries) {
+        this.objectSummaries = objectSummaries;
+    }
+
+    /**
+     * Gets the shards the keyspace was split into
+     */
+    public List<ParallelListObjectsRequest.Shard> getShards() {
+        return Collections.unmodifiableList(shards);
+    }
+
+    public void setShards(List<ParallelListObjectsRequest.Shard> shards) {
+        this.shards = shards;
+    }
+}
@@ -26,9 +26,12 @@ import java.util.Date;
  */
 public class PartSummary {
 
+    private static final long UNKNOWN_TIME = Long.MIN_VALUE;
+
     private int partNumber;
 
-    private Date lastModified;
+    // only the millis are kept, a listing holds many summaries
+    private long lastModifiedMillis = UNKNOWN_TIME;
 
     private String eTag;
 
@@ -64,7 +67,7 @@ public class PartSummary {
      * @return Part's last modified time
      */
     public Date getLastModified() {
-        return lastModified;
+        return lastModifiedMillis == UNKNOWN_TIME ? null : new Date(lastModifiedMillis);
     }
 
     /**
@@ -73,7 +76,25 @@ public class PartSummary {
      * @param lastModified Part's last modified time
      */
     public void setLastModified(Date lastModified) {
-        this.lastModified = lastModified;
+        this.lastModifiedMillis = lastModified == null ? UNKNOWN_TIME : lastModified.getTime();
+    }
+
+    /**
+     * Gets the last modified time in milliseconds since the epoch, without creating a Date.
+     *
+     * @return Part's last modified time, Long.MIN_VALUE if it's unknown
+     */
+    public long getLastModifiedMillis() {
+        return lastModifiedMillis;
+    }
+
+    /**
+     * Sets the last modified time in milliseconds since the epoch.
+     *
+     * @param lastModifiedMillis Part's last modified time
+     */
+    public void setLastModifiedMillis(long lastModifiedMillis) {
+        this.lastModifiedMillis = lastModifiedMillis;
     }
 
     /**
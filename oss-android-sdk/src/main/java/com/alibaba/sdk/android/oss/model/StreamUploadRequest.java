@@ -0,0 +1,74 @@
+package com.alibaba.sdk.android.oss.model;
+
+import java.io.InputStream;
+
+/**
+ * The stream upload request class definition
+ * <p>
+ * Uploads the content of an {@link InputStream} whose length is unknown beforehand, e.g. the output
+ * of a camera or an encoder. The stream is buffered up to one part size: if it ends before that,
+ * the content is sent with a single PutObject; otherwise a multipart upload is started and the parts
+ * are uploaded concurrently while the stream is still being read. The upload completes when the stream
+ * reaches its end. The memory held is bounded by part size * (concurrency + 1).
+ * <p>
+ * To upload data that is produced through an OutputStream, connect it to a
+ * {@link java.io.PipedInputStream} and pass the latter here.
+ */
+public class StreamUploadRequest extends MultipartUploadRequest<StreamUploadRequest> {
+
+    private InputStream uploadStream;
+    private int concurrency = 3;
+
+    /**
+     * Constructor
+     *
+     * @param bucketName   The target object's bucket name
+     * @param objectKey    The target object's key
+     * @param uploadStream The stream to upload, it is read until its end but is not closed
+     */
+    public StreamUploadRequest(String bucketName, String objectKey, InputStream uploadStream) {
+        this(bucketName, objectKey, uploadStream, null);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param bucketName   The target object's bucket name
+     * @param objectKey    The target object's key
+     * @param uploadStream The stream to upload, it is read until its end but is not closed
+     * @param metadata     The metadata of the target object
+     */
+    public StreamUploadRequest(String bucketName, String objectKey, InputStream uploadStream, ObjectMetadata metadata) {
+        super(bucketName, objectKey, null, metadata);
+        setUploadStream(uploadStream);
+    }
+
+    public InputStream getUploadStream() {
+        return uploadStream;
+    }
+
+    /**
+     * Sets the stream to upload
+     *
+     * @param uploadStream the stream to upload
+     */
+    public void setUploadStream(InputStream uploadStream) {
+        this.uploadStream = uploadStream;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    /**
+     * Sets how many parts could be uploaded at the same time, by default it's 3
+     *
+     * @param concurrency the count of concurrent part uploads
+     */
+    public void setConcurrency(int concurrency) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("Concurrency must be greater than 0!");
+        }
+        this.concurrency = concurrency;
+    }
+}
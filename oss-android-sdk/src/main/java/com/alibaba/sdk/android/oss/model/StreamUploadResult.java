@@ -0,0 +1,46 @@
+package com.alibaba.sdk.android.oss.model;
+
+/**
+ * The result class of a stream upload
+ */
+public class StreamUploadResult extends CompleteMultipartUploadResult {
+
+    // total bytes read from the stream and uploaded
+    private long totalSize;
+
+    public StreamUploadResult(CompleteMultipartUploadResult completeResult, long totalSize) {
+        this.setRequestId(completeResult.getRequestId());
+        this.setResponseHeader(completeResult.getResponseHeader());
+        this.setStatusCode(completeResult.getStatusCode());
+        this.setClientCRC(completeResult.getClientCRC());
+        this.setServerCRC(completeResult.getServerCRC());
+        this.setBucketName(completeResult.getBucketName());
+        this.setObjectKey(completeResult.getObjectKey());
+        this.setETag(completeResult.getETag());
+        this.setLocation(completeResult.getLocation());
+        this.setServerCallbackReturnBody(completeResult.getServerCallbackReturnBody());
+        this.totalSize = totalSize;
+    }
+
+    public StreamUploadResult(String bucketName, String objectKey, PutObjectResult putResult, long totalSize) {
+        this.setRequestId(putResult.getRequestId());
+        this.setResponseHeader(putResult.getResponseHeader());
+        this.setStatusCode(putResult.getStatusCode());
+        this.setClientCRC(putResult.getClientCRC());
+        this.setServerCRC(putResult.getServerCRC());
+        this.setBucketName(bucketName);
+        this.setObjectKey(objectKey);
+        this.setETag(putResult.getETag());
+        this.setServerCallbackReturnBody(putResult.getServerCallbackReturnBody());
+        this.totalSize = totalSize;
+    }
+
+    /**
+     * Gets the total size of the uploaded content
+     *
+     * @return size in byte
+     */
+    public long getTotalSize() {
+        return totalSize;
+    }
+}
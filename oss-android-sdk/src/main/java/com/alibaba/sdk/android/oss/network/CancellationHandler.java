@@ -1,5 +1,8 @@
 package com.alibaba.sdk.android.oss.network;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import okhttp3.Call;
 
 /**
@@ -11,11 +14,46 @@ public class CancellationHandler {
 
     private volatile Call call;
 
+    private List<CancellationHandler> linked;
+
     public void cancel() {
         if (call != null) {
             call.cancel();
         }
-        isCancelled = true;
+        List<CancellationHandler> handlers;
+        synchronized (this) {
+            isCancelled = true;
+            handlers = linked;
+            linked = null;
+        }
+        if (handlers != null) {
+            for (CancellationHandler handler : handlers) {
+                handler.cancel();
+            }
+        }
+    }
+
+    /**
+     * Cancels the handler along with this one, e.g. the requests a task runs on its own, it is
+     * cancelled at once if this one already is
+     */
+    public void link(CancellationHandler handler) {
+        synchronized (this) {
+            if (!isCancelled) {
+                if (linked == null) {
+                    linked = new ArrayList<CancellationHandler>();
+                }
+                linked.add(handler);
+                return;
+            }
+        }
+        handler.cancel();
+    }
+
+    public synchronized void unlink(CancellationHandler handler) {
+        if (linked != null) {
+            linked.remove(handler);
+        }
     }
 
     public boolean isCancelled() {
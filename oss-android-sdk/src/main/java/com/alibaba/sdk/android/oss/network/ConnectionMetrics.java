@@ -0,0 +1,94 @@
+package com.alibaba.sdk.android.oss.network;
+
+import com.alibaba.sdk.android.oss.common.utils.HttpdnsMini;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import okhttp3.Call;
+import okhttp3.Connection;
+import okhttp3.EventListener;
+import okhttp3.Protocol;
+
+/**
+ * Counts the connections acquired by the calls of a client and how many of them were opened.
+ * <p>
+ * The connect times and failures are passed to httpdns, which orders the ips of a host by them.
+ */
+public class ConnectionMetrics extends EventListener {
+
+    private final AtomicLong acquiredConnections = new AtomicLong();
+    private final AtomicLong openedConnections = new AtomicLong();
+    private final AtomicLong http2Connections = new AtomicLong();
+    private final ConcurrentMap<Call, Long> connectStartTimes = new ConcurrentHashMap<Call, Long>();
+
+    @Override
+    public void connectStart(Call call, InetSocketAddress inetSocketAddress, Proxy proxy) {
+        openedConnections.incrementAndGet();
+        connectStartTimes.put(call, System.currentTimeMillis());
+    }
+
+    @Override
+    public void connectEnd(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, Protocol protocol) {
+        if (protocol == Protocol.HTTP_2) {
+            http2Connections.incrementAndGet();
+        }
+        Long start = connectStartTimes.remove(call);
+        if (start != null && proxy.type() == Proxy.Type.DIRECT) {
+            HttpdnsMini.getInstance().reportConnectSuccess(inetSocketAddress.getAddress().getHostAddress(),
+                    inetSocketAddress.getPort(), System.currentTimeMillis() - start);
+        }
+    }
+
+    @Override
+    public void connectFailed(Call call, InetSocketAddress inetSocketAddress, Proxy proxy,
+                              Protocol protocol, IOException ioe) {
+        connectStartTimes.remove(call);
+        if (proxy.type() == Proxy.Type.DIRECT) {
+            HttpdnsMini.getInstance().reportConnectFailure(inetSocketAddress.getAddress().getHostAddress(),
+                    inetSocketAddress.getPort());
+        }
+    }
+
+    @Override
+    public void connectionAcquired(Call call, Connection connection) {
+        acquiredConnections.incrementAndGet();
+    }
+
+    /**
+     * Gets the count of connections acquired by calls, reused or newly opened
+     */
+    public long getAcquiredConnections() {
+        return acquiredConnections.get();
+    }
+
+    /**
+     * Gets the count of connection attempts, including failed ones
+     */
+    public long getOpenedConnections() {
+        return openedConnections.get();
+    }
+
+    /**
+     * Gets the count of opened connections which negotiated HTTP/2
+     */
+    public long getHttp2Connections() {
+        return http2Connections.get();
+    }
+
+    /**
+     * Gets the ratio of acquired connections which were taken from the pool, 0 before the first call
+     */
+    public double getReuseRatio() {
+        long acquired = acquiredConnections.get();
+        if (acquired == 0) {
+            return 0;
+        }
+        long reused = Math.max(0, acquired - openedConnections.get());
+        return (double) reused / acquired;
+    }
+}
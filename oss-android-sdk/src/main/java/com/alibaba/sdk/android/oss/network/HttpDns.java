@@ -0,0 +1,43 @@
+package com.alibaba.sdk.android.oss.network;
+
+import com.alibaba.sdk.android.oss.common.OSSLog;
+import com.alibaba.sdk.android.oss.common.utils.HttpdnsMini;
+import com.alibaba.sdk.android.oss.common.utils.OSSUtils;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.List;
+
+import okhttp3.Dns;
+
+/**
+ * Resolves the OSS hosts through httpdns and the other ones through the system.
+ * <p>
+ * The URLs keep the real host names, so TLS gets the right SNI and verifies the certificate against
+ * the host, and the connections are pooled per host. A host which httpdns hasn't resolved yet is
+ * resolved by the system while httpdns resolves it in the background.
+ * <p>
+ * All ips of a host are returned, the fastest healthy one first. OkHttp postpones the routes which
+ * failed, so a retry of the SDK connects to the next ip.
+ */
+public class HttpDns implements Dns {
+
+    @Override
+    public List<InetAddress> lookup(String hostname) throws UnknownHostException {
+        if (OSSUtils.isOssOriginHost(hostname)) {
+            List<InetAddress> addresses = new ArrayList<InetAddress>();
+            for (String ip : HttpdnsMini.getInstance().getIpsByHostAsync(hostname)) {
+                try {
+                    addresses.add(InetAddress.getByName(ip));
+                } catch (UnknownHostException e) {
+                    OSSLog.logWarn("[httpdns] - invalid ip " + ip + " of " + hostname);
+                }
+            }
+            if (!addresses.isEmpty()) {
+                return addresses;
+            }
+        }
+        return Dns.SYSTEM.lookup(hostname);
+    }
+}
@@ -0,0 +1,125 @@
+package com.alibaba.sdk.android.oss.network;
+
+import com.alibaba.sdk.android.oss.ClientConfiguration;
+
+import java.lang.ref.WeakReference;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+
+/**
+ * The OkHttpClient of an OSS client with its connection metrics.
+ * <p>
+ * With {@link ClientConfiguration#isShareConnectionPool()} the clients of the same configuration
+ * share one transport, i.e. its connection pool, TLS sessions and dispatcher. The key
+ * contains everything the transport is built from. A shared transport is only weakly referenced
+ * here, so it is released with the last client using it.
+ */
+public class HttpTransport {
+
+    private static final Map<String, WeakReference<HttpTransport>> sharedTransports =
+            new HashMap<String, WeakReference<HttpTransport>>();
+
+    private final OkHttpClient client;
+    private final ConnectionMetrics metrics;
+
+    private HttpTransport(OkHttpClient client, ConnectionMetrics metrics) {
+        this.client = client;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Gets the transport for a configuration
+     *
+     * @param conf the client configuration, null for the defaults
+     */
+    public static HttpTransport obtain(ClientConfiguration conf) {
+        if (conf == null || !conf.isShareConnectionPool()) {
+            return newTransport(conf);
+        }
+        String key = buildKey(conf);
+        synchronized (sharedTransports) {
+            WeakReference<HttpTransport> reference = sharedTransports.get(key);
+            HttpTransport transport = reference == null ? null : reference.get();
+            if (transport == null) {
+                removeReleased();
+                transport = newTransport(conf);
+                sharedTransports.put(key, new WeakReference<HttpTransport>(transport));
+            }
+            return transport;
+        }
+    }
+
+    // requires the lock of the shared transports
+    private static void removeReleased() {
+        Iterator<WeakReference<HttpTransport>> iterator = sharedTransports.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().get() == null) {
+                iterator.remove();
+            }
+        }
+    }
+
+    public OkHttpClient getClient() {
+        return client;
+    }
+
+    /**
+     * Gets the connection metrics, for a shared transport they count the calls of all its clients
+     */
+    public ConnectionMetrics getMetrics() {
+        return metrics;
+    }
+
+    private static String buildKey(ClientConfiguration conf) {
+        return conf.getProxyHost() + ":" + conf.getProxyPort()
+                + "|" + conf.getConnectionTimeout() + "|" + conf.getSocketTimeout()
+                + "|" + conf.getMaxConcurrentRequest()
+                + "|" + conf.getMaxIdleConnections() + "|" + conf.getKeepAliveDuration()
+                + "|" + conf.isHttp2Enabled() + ":" + conf.getHttp2MaxConcurrentStreams()
+                + "|" + conf.isHttpDnsEnable();
+    }
+
+    private static HttpTransport newTransport(ClientConfiguration conf) {
+        ConnectionMetrics metrics = new ConnectionMetrics();
+        OkHttpClient.Builder builder = new OkHttpClient.Builder()
+                .followRedirects(false)
+                .followSslRedirects(false)
+                .retryOnConnectionFailure(false)
+                .cache(null)
+                .eventListener(metrics);
+
+        if (conf != null) {
+            Dispatcher dispatcher = new Dispatcher();
+            dispatcher.setMaxRequests(conf.getMaxConcurrentRequest());
+
+            builder.connectTimeout(conf.getConnectionTimeout(), TimeUnit.MILLISECONDS)
+                    .readTimeout(conf.getSocketTimeout(), TimeUnit.MILLISECONDS)
+                    .writeTimeout(conf.getSocketTimeout(), TimeUnit.MILLISECONDS)
+                    .dispatcher(dispatcher)
+                    .connectionPool(new ConnectionPool(conf.getMaxIdleConnections(),
+                            conf.getKeepAliveDuration(), TimeUnit.MILLISECONDS));
+
+            if (conf.isHttpDnsEnable()) {
+                builder.dns(new HttpDns());
+            }
+
+            if (conf.getProxyHost() != null && conf.getProxyPort() != 0) {
+                builder.proxy(new Proxy(Proxy.Type.HTTP, new InetSocketAddress(conf.getProxyHost(), conf.getProxyPort())));
+            }
+        }
+        // the protocols are okhttp's default, HTTP/2 is negotiated with https endpoints supporting it
+        if (conf != null && conf.isHttp2Enabled()) {
+            builder.addInterceptor(new StreamLimitInterceptor(conf.getHttp2MaxConcurrentStreams()));
+        }
+        NetworkProgressHelper.addProgressInterceptor(builder);
+        return new HttpTransport(builder.build(), metrics);
+    }
+}
@@ -1,11 +1,14 @@
 package com.alibaba.sdk.android.oss.network;
 
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.concurrent.Executor;
 
 import okhttp3.Interceptor;
 import okhttp3.OkHttpClient;
+import okhttp3.Request;
 import okhttp3.Response;
 
 /**
@@ -14,11 +17,61 @@ import okhttp3.Response;
 
 public class NetworkProgressHelper {
 
+    /**
+     * Tracks the response progress of the requests tagged with a {@link ProgressDispatcher},
+     * it is installed once on the client
+     */
+    private static final Interceptor PROGRESS_INTERCEPTOR = new Interceptor() {
+        @Override
+        public Response intercept(Chain chain) throws IOException {
+            Response originalResponse = chain.proceed(chain.request());
+            ProgressDispatcher dispatcher = chain.request().tag(ProgressDispatcher.class);
+            if (dispatcher == null || originalResponse.body() == null) {
+                return originalResponse;
+            }
+            return originalResponse.newBuilder()
+                    .body(new ProgressTouchableResponseBody(originalResponse.body(), dispatcher))
+                    .build();
+        }
+    };
+
+    /**
+     * installs the response progress interceptor on the client
+     */
+    public static OkHttpClient.Builder addProgressInterceptor(OkHttpClient.Builder builder) {
+        return builder.addNetworkInterceptor(PROGRESS_INTERCEPTOR);
+    }
+
+    /**
+     * tags the request to report its response progress to the dispatcher, the client must have the
+     * progress interceptor installed by {@link #addProgressInterceptor(OkHttpClient.Builder)}
+     */
+    public static Request.Builder addProgressResponseListener(Request.Builder builder, ProgressDispatcher dispatcher) {
+        return builder.tag(ProgressDispatcher.class, dispatcher);
+    }
+
     /**
      * process response progress
+     *
+     * @deprecated builds a new client for every call, tag the request by
+     * {@link #addProgressResponseListener(Request.Builder, ProgressDispatcher)} instead
      */
+    @Deprecated
     public static OkHttpClient addProgressResponseListener(OkHttpClient client,
                                                            final ExecutionContext context) {
+        return addProgressResponseListener(client, new ProgressDispatcher(context.getRequest(),
+                context.getProgressCallback(), 0, null));
+    }
+
+    /**
+     * process response progress through a dispatcher
+     *
+     * @deprecated builds a new client for every call, tag the request by
+     * {@link #addProgressResponseListener(Request.Builder, ProgressDispatcher)} instead
+     */
+    @Deprecated
+    public static OkHttpClient addProgressResponseListener(OkHttpClient client,
+                                                           final ProgressDispatcher dispatcher) {
         OkHttpClient newClient = client.newBuilder()
                 .addNetworkInterceptor(new Interceptor() {
                     @Override
@@ -26,7 +79,7 @@ public class NetworkProgressHelper {
                         Response originalResponse = chain.proceed(chain.request());
                         return originalResponse.newBuilder()
                                 .body(new ProgressTouchableResponseBody(originalResponse.body(),
-                                        context))
+                                        dispatcher))
                                 .build();
                     }
                 })
@@ -43,4 +96,32 @@ public class NetworkProgressHelper {
                                                                       ExecutionContext context) {
         return new ProgressTouchableRequestBody(input, contentLength, contentType, context);
     }
+
+    /**
+     * process request progress through a dispatcher
+     */
+    public static ProgressTouchableRequestBody addProgressRequestBody(InputStream input,
+                                                                      long contentLength,
+                                                                      String contentType,
+                                                                      ProgressDispatcher dispatcher) {
+        return new ProgressTouchableRequestBody(input, contentLength, contentType, dispatcher);
+    }
+
+    /**
+     * process request progress of a file, which is copied by its FileChannel
+     */
+    public static ProgressTouchableRequestBody addProgressRequestBody(File file,
+                                                                      String contentType,
+                                                                      ProgressDispatcher dispatcher) {
+        return new ProgressTouchableRequestBody(file, contentType, dispatcher);
+    }
+
+    /**
+     * creates the dispatcher delivering the progress of a request to the context's callback
+     */
+    public static ProgressDispatcher newProgressDispatcher(ExecutionContext context, long progressInterval,
+                                                           long progressByteStep, Executor callbackExecutor) {
+        return new ProgressDispatcher(context.getRequest(), context.getProgressCallback(),
+                progressInterval, progressByteStep, callbackExecutor);
+    }
 }
@@ -24,14 +24,12 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InterruptedIOException;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.zip.CheckedInputStream;
 
 import okhttp3.Call;
-import okhttp3.Headers;
 import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
@@ -114,6 +112,7 @@ public class OSSRequestTask<T extends OSSResult> implements Callable<T> {
                 case PUT:
                     OSSUtils.assertTrue(contentType != null, "Content type can't be null when upload!");
                     InputStream inputStream = null;
+                    File uploadFile = null;
                     String stringBody = null;
                     long length = 0;
                     if (message.getUploadData() != null) {
@@ -124,11 +123,16 @@ public class OSSRequestTask<T extends OSSResult> implements Callable<T> {
                         }
                     } else if (message.getUploadFilePath() != null) {
                         File file = new File(message.getUploadFilePath());
-                        inputStream = new FileInputStream(file);
                         length = file.length();
                         if (length <= 0) {
                             throw new ClientException("the length of file is 0!");
                         }
+                        if (message.isCheckCRC64()) {
+                            // the crc64 is calculated while the stream is read
+                            inputStream = new FileInputStream(file);
+                        } else {
+                            uploadFile = file;
+                        }
                     } else if (message.getContent() != null) {
                         inputStream = message.getContent();
                         length = message.getContentLength();
@@ -142,14 +146,20 @@ public class OSSRequestTask<T extends OSSResult> implements Callable<T> {
                         }
                     }
 
-                    if (inputStream != null) {
+                    if (uploadFile != null) {
+                        message.setContentLength(length);
+                        requestBuilder = requestBuilder.method(message.getMethod().toString(),
+                                NetworkProgressHelper.addProgressRequestBody(uploadFile, contentType,
+                                        newProgressDispatcher()));
+                    } else if (inputStream != null) {
                         if (message.isCheckCRC64()) {
                             inputStream = new CheckedInputStream(inputStream, new CRC64());
                         }
                         message.setContent(inputStream);
                         message.setContentLength(length);
                         requestBuilder = requestBuilder.method(message.getMethod().toString(),
-                                NetworkProgressHelper.addProgressRequestBody(inputStream, length, contentType, context));
+                                NetworkProgressHelper.addProgressRequestBody(inputStream, length, contentType,
+                                        newProgressDispatcher()));
                     } else if (stringBody != null) {
                         requestBuilder = requestBuilder.method(message.getMethod().toString()
                                 , RequestBody.create(MediaType.parse(contentType), stringBody.getBytes("UTF-8")));
@@ -171,13 +181,13 @@ public class OSSRequestTask<T extends OSSResult> implements Callable<T> {
                     break;
             }
 
-            request = requestBuilder.build();
-
             if (ossRequest instanceof GetObjectRequest) {
-                client = NetworkProgressHelper.addProgressResponseListener(client, context);
+                requestBuilder = NetworkProgressHelper.addProgressResponseListener(requestBuilder, newProgressDispatcher());
                 OSSLog.logDebug("getObject");
             }
 
+            request = requestBuilder.build();
+
             call = client.newCall(request);
 
             context.getCancellationHandler().setCall(call);
@@ -284,16 +294,15 @@ public class OSSRequestTask<T extends OSSResult> implements Callable<T> {
         }
     }
 
+    private ProgressDispatcher newProgressDispatcher() {
+        return NetworkProgressHelper.newProgressDispatcher(context, message.getProgressInterval(),
+                message.getProgressByteStep(), message.getProgressCallbackExecutor());
+    }
+
     private ResponseMessage buildResponseMessage(RequestMessage request, Response response) {
         ResponseMessage responseMessage = new ResponseMessage();
         responseMessage.setRequest(request);
         responseMessage.setResponse(response);
-        Map<String, String> headers = new HashMap<String, String>();
-        Headers responseHeaders = response.headers();
-        for (int i = 0; i < responseHeaders.size(); i++) {
-            headers.put(responseHeaders.name(i), responseHeaders.value(i));
-        }
-        responseMessage.setHeaders(headers);
         responseMessage.setStatusCode(response.code());
         responseMessage.setContentLength(response.body().contentLength());
         responseMessage.setContent(response.body().byteStream());
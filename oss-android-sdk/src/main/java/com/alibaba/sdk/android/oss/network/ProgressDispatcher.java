@@ -0,0 +1,126 @@
+package com.alibaba.sdk.android.oss.network;
+
+import com.alibaba.sdk.android.oss.callback.OSSProgressCallback;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Delivers the progress of one task to its callback.
+ * <p>
+ * The transferred bytes are counted atomically by the threads doing the I/O, an event is emitted at
+ * most once per interval and once per byte step, and the final event, where the current size reaches
+ * the total size, is always delivered. With an executor the callback runs there: while an event is still queued no
+ * other one is queued, the queued one delivers the latest size once it runs, so a slow callback does
+ * not hold up the I/O. The delivered sizes never go backwards.
+ */
+public class ProgressDispatcher<T> {
+
+    private final T request;
+    private final OSSProgressCallback<T> callback;
+    private final long interval;
+    private final long byteStep;
+    private final Executor executor;
+
+    private final AtomicLong currentSize = new AtomicLong();
+    private volatile long totalSize;
+    private final AtomicLong lastEmitTime = new AtomicLong();
+    private volatile long lastEmitSize;
+    private final AtomicBoolean queued = new AtomicBoolean();
+    private long deliveredSize = -1;
+    private long deliveredTotalSize;
+
+    /**
+     * @param request  the request passed to the callback
+     * @param callback the callback, null for none
+     * @param interval the minimal interval in milliseconds between two events
+     * @param executor the executor the callback runs on, null to run it in the reporting thread
+     */
+    public ProgressDispatcher(T request, OSSProgressCallback<T> callback, long interval, Executor executor) {
+        this(request, callback, interval, 0, executor);
+    }
+
+    /**
+     * @param request  the request passed to the callback
+     * @param callback the callback, null for none
+     * @param interval the minimal interval in milliseconds between two events
+     * @param byteStep the minimal count of bytes transferred between two events
+     * @param executor the executor the callback runs on, null to run it in the reporting thread
+     */
+    public ProgressDispatcher(T request, OSSProgressCallback<T> callback, long interval, long byteStep,
+                              Executor executor) {
+        this.request = request;
+        this.callback = callback;
+        this.interval = interval;
+        this.byteStep = byteStep;
+        this.executor = executor;
+    }
+
+    public void setTotalSize(long totalSize) {
+        this.totalSize = totalSize;
+    }
+
+    public long getCurrentSize() {
+        return currentSize.get();
+    }
+
+    /**
+     * Adds transferred bytes, a negative count takes back bytes which are transferred again
+     */
+    public void add(long byteCount) {
+        currentSize.addAndGet(byteCount);
+        emit();
+    }
+
+    /**
+     * Sets the transferred bytes
+     */
+    public void update(long currentSize) {
+        this.currentSize.set(currentSize);
+        emit();
+    }
+
+    public void update(long currentSize, long totalSize) {
+        this.totalSize = totalSize;
+        update(currentSize);
+    }
+
+    private void emit() {
+        if (callback == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long last = lastEmitTime.get();
+        long current = currentSize.get();
+        boolean last100 = current == totalSize;
+        if (!last100 && (now - last < interval || current - lastEmitSize < byteStep
+                || !lastEmitTime.compareAndSet(last, now))) {
+            return;
+        }
+        lastEmitSize = current;
+        if (executor == null) {
+            deliver();
+        } else if (queued.compareAndSet(false, true)) {
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    queued.set(false);
+                    deliver();
+                }
+            });
+        }
+    }
+
+    private synchronized void deliver() {
+        long current = currentSize.get();
+        long total = totalSize;
+        // the same size is delivered again once the total is known, e.g. a stream ending
+        if (current < deliveredSize || current == deliveredSize && total == deliveredTotalSize) {
+            return;
+        }
+        deliveredSize = current;
+        deliveredTotalSize = total;
+        callback.onProgress(request, current, total);
+    }
+}
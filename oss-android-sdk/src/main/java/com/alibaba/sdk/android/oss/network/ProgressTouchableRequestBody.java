@@ -1,10 +1,14 @@
 package com.alibaba.sdk.android.oss.network;
 
-import com.alibaba.sdk.android.oss.callback.OSSProgressCallback;
+import com.alibaba.sdk.android.oss.common.OSSConstants;
 import com.alibaba.sdk.android.oss.model.OSSRequest;
 
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.FileChannel;
 
 import okhttp3.MediaType;
 import okhttp3.RequestBody;
@@ -14,23 +18,41 @@ import okio.Source;
 
 /**
  * Created by jingdan on 2017/9/12.
+ * <p>
+ * Writes the body in chunks of {@link #CHUNK_SIZE}, the sink sends the complete segments on its
+ * own and is not flushed per chunk. A file is copied by its FileChannel. The progress is passed to
+ * the dispatcher once per chunk.
  */
 
 public class ProgressTouchableRequestBody<T extends OSSRequest> extends RequestBody {
-    private static final int SEGMENT_SIZE = 2048; // okio.Segment.SIZE
+    private static final int CHUNK_SIZE = OSSConstants.DEFAULT_STREAM_BUFFER_SIZE;
 
     private InputStream inputStream;
+    private File file;
     private String contentType;
     private long contentLength;
-    private OSSProgressCallback callback;
-    private T request;
+    private ProgressDispatcher<T> dispatcher;
 
     public ProgressTouchableRequestBody(InputStream input, long contentLength, String contentType, ExecutionContext context) {
+        this(input, contentLength, contentType,
+                new ProgressDispatcher<T>((T) context.getRequest(), context.getProgressCallback(), 0, null));
+    }
+
+    public ProgressTouchableRequestBody(InputStream input, long contentLength, String contentType,
+                                        ProgressDispatcher<T> dispatcher) {
         this.inputStream = input;
         this.contentType = contentType;
         this.contentLength = contentLength;
-        this.callback = context.getProgressCallback();
-        this.request = (T) context.getRequest();
+        this.dispatcher = dispatcher;
+        dispatcher.setTotalSize(contentLength);
+    }
+
+    public ProgressTouchableRequestBody(File file, String contentType, ProgressDispatcher<T> dispatcher) {
+        this.file = file;
+        this.contentType = contentType;
+        this.contentLength = file.length();
+        this.dispatcher = dispatcher;
+        dispatcher.setTotalSize(contentLength);
     }
 
     @Override
@@ -45,27 +67,44 @@ public class ProgressTouchableRequestBody<T extends OSSRequest> extends RequestB
 
     @Override
     public void writeTo(BufferedSink sink) throws IOException {
-        Source source = Okio.source(this.inputStream);
-        long total = 0;
-        long read, toRead, remain;
-
-        while (total < contentLength) {
-            remain = contentLength - total;
-            toRead = Math.min(remain, SEGMENT_SIZE);
+        if (file != null) {
+            writeFile(sink);
+        } else {
+            writeStream(sink);
+        }
+    }
 
-            read = source.read(sink.buffer(), toRead);
-            if (read == -1) {
-                break;
+    private void writeFile(BufferedSink sink) throws IOException {
+        FileInputStream input = new FileInputStream(file);
+        try {
+            FileChannel channel = input.getChannel();
+            long total = 0;
+            while (total < contentLength) {
+                long toWrite = Math.min(contentLength - total, CHUNK_SIZE);
+                long written = channel.transferTo(total, toWrite, sink);
+                if (written <= 0) {
+                    throw new EOFException("the file ends at " + total + " of " + contentLength);
+                }
+                total += written;
+                dispatcher.update(total);
             }
+        } finally {
+            input.close();
+        }
+    }
 
-            total += read;
-            sink.flush();
-
-            if (callback != null && total != 0) {
-                callback.onProgress(request, total, contentLength);
+    private void writeStream(BufferedSink sink) throws IOException {
+        Source source = Okio.source(this.inputStream);
+        try {
+            long total = 0;
+            while (total < contentLength) {
+                long toWrite = Math.min(contentLength - total, CHUNK_SIZE);
+                // emits the complete segments to the network as they are filled
+                sink.write(source, toWrite);
+                total += toWrite;
+                dispatcher.update(total);
             }
-        }
-        if (source != null) {
+        } finally {
             source.close();
         }
     }
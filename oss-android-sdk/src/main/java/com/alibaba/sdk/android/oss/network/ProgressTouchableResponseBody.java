@@ -1,6 +1,5 @@
 package com.alibaba.sdk.android.oss.network;
 
-import com.alibaba.sdk.android.oss.callback.OSSProgressCallback;
 import com.alibaba.sdk.android.oss.model.OSSRequest;
 
 import java.io.IOException;
@@ -21,14 +20,17 @@ import okio.Source;
 public class ProgressTouchableResponseBody<T extends OSSRequest> extends ResponseBody {
 
     private final ResponseBody mResponseBody;
-    private OSSProgressCallback mProgressListener;
+    private ProgressDispatcher<T> mProgressDispatcher;
     private BufferedSource mBufferedSource;
-    private T request;
 
     public ProgressTouchableResponseBody(ResponseBody responseBody, ExecutionContext context) {
+        this(responseBody, new ProgressDispatcher<T>((T) context.getRequest(), context.getProgressCallback(), 0, null));
+    }
+
+    public ProgressTouchableResponseBody(ResponseBody responseBody, ProgressDispatcher<T> dispatcher) {
         this.mResponseBody = responseBody;
-        this.mProgressListener = context.getProgressCallback();
-        this.request = (T) context.getRequest();
+        this.mProgressDispatcher = dispatcher;
+        dispatcher.setTotalSize(responseBody.contentLength());
     }
 
     @Override
@@ -56,10 +58,14 @@ public class ProgressTouchableResponseBody<T extends OSSRequest> extends Respons
             @Override
             public long read(Buffer sink, long byteCount) throws IOException {
                 long bytesRead = super.read(sink, byteCount);
-                totalBytesRead += bytesRead != -1 ? bytesRead : 0;
-                //callback
-                if (mProgressListener != null && bytesRead != -1 && totalBytesRead != 0) {
-                    mProgressListener.onProgress(request, totalBytesRead, mResponseBody.contentLength());
+                if (bytesRead != -1) {
+                    totalBytesRead += bytesRead;
+                    if (totalBytesRead != 0) {
+                        mProgressDispatcher.update(totalBytesRead);
+                    }
+                } else if (mResponseBody.contentLength() < 0) {
+                    // the length is known at the end of a chunked body, deliver the final event
+                    mProgressDispatcher.update(totalBytesRead, totalBytesRead);
                 }
                 return bytesRead;
             }
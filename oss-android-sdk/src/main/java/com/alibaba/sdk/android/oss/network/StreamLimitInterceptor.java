@@ -0,0 +1,135 @@
+package com.alibaba.sdk.android.oss.network;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.BufferedSource;
+import okio.ForwardingSource;
+import okio.Okio;
+
+/**
+ * Limits the requests in flight per host, so the HTTP/2 streams multiplexed on a connection don't
+ * exceed a maximum. The calls are executed in the threads of the SDK, which the limits of the
+ * OkHttp dispatcher don't apply to. A request holds its permit until its response body is
+ * exhausted or closed, or only until its response headers arrive when the connection uses HTTP/1.1.
+ * A request which doesn't get a permit within the socket timeout fails, so leaked bodies don't
+ * block the host forever.
+ */
+class StreamLimitInterceptor implements Interceptor {
+
+    private final int maxStreams;
+    private final ConcurrentMap<String, Semaphore> hostPermits = new ConcurrentHashMap<String, Semaphore>();
+
+    StreamLimitInterceptor(int maxStreams) {
+        this.maxStreams = maxStreams;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        String host = chain.request().url().host();
+        Semaphore permits = hostPermits.get(host);
+        if (permits == null) {
+            Semaphore created = new Semaphore(maxStreams);
+            permits = hostPermits.putIfAbsent(host, created);
+            if (permits == null) {
+                permits = created;
+            }
+        }
+        int timeout = chain.readTimeoutMillis();
+        try {
+            if (timeout > 0) {
+                if (!permits.tryAcquire(timeout, TimeUnit.MILLISECONDS)) {
+                    throw new IOException("timed out waiting for a stream to " + host + " after " + timeout + "ms");
+                }
+            } else {
+                permits.acquire();
+            }
+        } catch (InterruptedException e) {
+            throw new InterruptedIOException("interrupted while waiting for a stream to " + host);
+        }
+
+        Permit permit = new Permit(permits);
+        Response response;
+        try {
+            response = chain.proceed(chain.request());
+        } catch (IOException e) {
+            permit.release();
+            throw e;
+        } catch (RuntimeException e) {
+            permit.release();
+            throw e;
+        }
+        if (response.body() == null || response.protocol() != Protocol.HTTP_2) {
+            // a HTTP/1.1 response owns its connection, there is no stream to limit
+            permit.release();
+            return response;
+        }
+        return response.newBuilder().body(new PermitResponseBody(response.body(), permit)).build();
+    }
+
+    private static class Permit {
+        private final Semaphore permits;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        Permit(Semaphore permits) {
+            this.permits = permits;
+        }
+
+        void release() {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        }
+    }
+
+    private static class PermitResponseBody extends ResponseBody {
+        private final ResponseBody body;
+        private final BufferedSource source;
+
+        PermitResponseBody(ResponseBody body, final Permit permit) {
+            this.body = body;
+            this.source = Okio.buffer(new ForwardingSource(body.source()) {
+                @Override
+                public long read(Buffer sink, long byteCount) throws IOException {
+                    long read = super.read(sink, byteCount);
+                    if (read == -1) {
+                        permit.release();
+                    }
+                    return read;
+                }
+
+                @Override
+                public void close() throws IOException {
+                    permit.release();
+                    super.close();
+                }
+            });
+        }
+
+        @Override
+        public MediaType contentType() {
+            return body.contentType();
+        }
+
+        @Override
+        public long contentLength() {
+            return body.contentLength();
+        }
+
+        @Override
+        public BufferedSource source() {
+            return source;
+        }
+    }
+}